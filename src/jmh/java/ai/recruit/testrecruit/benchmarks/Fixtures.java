@@ -0,0 +1,58 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.enums.Role;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Company company(int users) {
+        Company company = Company.builder()
+                .idCompany(1L)
+                .name("Acme")
+                .email("contact@acme.test")
+                .phoneNumber("+212600000000")
+                .address("1 Main Street, Casablanca")
+                .website("https://acme.test")
+                .foundedDate(LocalDate.of(2001, 4, 12))
+                .users(new ArrayList<>())
+                .build();
+        for (int i = 0; i < users; i++)
+            company.getUsers().add(user(i, company));
+        return company;
+    }
+
+    static User user(int i, Company company) {
+        return User.builder()
+                .id(i)
+                .name("User " + i)
+                .email("user" + i + "@acme.test")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3XQn6j1G3w3zWz5u0QKk5nS")
+                .phoneNumber("+212611111111")
+                .address(i + " Second Street, Rabat")
+                .dateOfBirth(LocalDate.of(1990, 1 + i % 12, 1 + i % 28))
+                .role(Role.values()[i % Role.values().length])
+                .company(company)
+                .build();
+    }
+
+    static CompanyResponseDto companyDto(int users) {
+        List<UserResponseDto> dtos = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = user(i, null);
+            dtos.add(new UserResponseDto(user.getId(), user.getName(), user.getEmail(), user.getPhoneNumber(),
+                    user.getAddress(), user.getPassword(), user.getDateOfBirth(), user.getRole(), user.getVersion()));
+        }
+        return new CompanyResponseDto(1L, "Acme", "contact@acme.test", "+212600000000",
+                "1 Main Street, Casablanca", "https://acme.test", LocalDate.of(2001, 4, 12), 0L, dtos);
+    }
+}
@@ -0,0 +1,35 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"0", "50", "500"})
+    private int usersPerCompany;
+
+    private ObjectWriter writer;
+    private CompanyResponseDto company;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().registerModule(new JavaTimeModule()).writerFor(CompanyResponseDto.class);
+        company = Fixtures.companyDto(usersPerCompany);
+    }
+
+    @Benchmark
+    public byte[] companyResponseDto() throws Exception {
+        return writer.writeValueAsBytes(company);
+    }
+}
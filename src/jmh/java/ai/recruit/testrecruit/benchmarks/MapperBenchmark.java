@@ -0,0 +1,51 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.mapper.CompanyResponseMapper;
+import ai.recruit.testrecruit.mapper.CompanyResponseMapperImpl;
+import ai.recruit.testrecruit.mapper.UserResponseMapper;
+import ai.recruit.testrecruit.mapper.UserResponseMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "50"})
+    private int usersPerCompany;
+
+    private final UserResponseMapper userResponseMapper = new UserResponseMapperImpl();
+    private final CompanyResponseMapper companyResponseMapper = new CompanyResponseMapperImpl();
+    private Company company;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        company = Fixtures.company(usersPerCompany);
+        user = Fixtures.user(1, company);
+    }
+
+    @Benchmark
+    public UserResponseDto userToUserResponseDto() {
+        return userResponseMapper.userToUserResponseDto(user);
+    }
+
+    @Benchmark
+    public CompanyResponseDto companyToCompanyResponseDto() {
+        return companyResponseMapper.companyToCompanyResponseDto(company);
+    }
+
+    @Benchmark
+    public CompanyResponseDto companyToCompanySummaryDto() {
+        return companyResponseMapper.companyToCompanySummaryDto(company);
+    }
+}
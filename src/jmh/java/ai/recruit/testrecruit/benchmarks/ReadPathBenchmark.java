@@ -0,0 +1,98 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.TestRecruitApplication;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.mapper.CompanyResponseMapper;
+import ai.recruit.testrecruit.mapper.UserResponseMapper;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.UserRepository;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Uncached single-row reads: {@code entity} loads managed entities in a read-write transaction and maps
+ * them with MapStruct, {@code projection} selects straight into the DTOs in a read-only one. Run with
+ * {@code -Djmh.args="ReadPathBenchmark -prof gc"} to compare allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int USERS = 50;
+
+    @Param({"entity", "projection"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private CompanyRepository companyRepository;
+    private UserResponseMapper userResponseMapper;
+    private CompanyResponseMapper companyResponseMapper;
+    private TransactionTemplate transaction;
+    private long companyId;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TestRecruitApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "logging.level.ai.recruit.testrecruit=WARN")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        companyRepository = context.getBean(CompanyRepository.class);
+        userResponseMapper = context.getBean(UserResponseMapper.class);
+        companyResponseMapper = context.getBean(CompanyResponseMapper.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(path.equals("projection"));
+
+        companyId = context.getBean(ICompanyService.class).createCompany(CompanyRequestDto.builder()
+                .name("read-path").email("read-path@bench.test").build()).getIdCompany();
+        userId = context.getBean(IUserService.class).createUsers(IntStream.range(0, USERS)
+                        .mapToObj(i -> UserRequestDto.builder().name("user-" + i).email("user" + i + "@bench.test")
+                                .password("secret").role(Role.SOFTWARE_ENGINEER).companyId(companyId).build())
+                        .toList())
+                .get(0).getItem().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponseDto findUser() {
+        return transaction.execute(status -> path.equals("projection")
+                ? userRepository.findResponseById(userId).orElseThrow()
+                : userResponseMapper.userToUserResponseDto(userRepository.findById(userId).orElseThrow()));
+    }
+
+    @Benchmark
+    public CompanyResponseDto findCompanyById() {
+        return transaction.execute(status -> {
+            if (path.equals("entity"))
+                return companyResponseMapper.companyToCompanyResponseDto(
+                        companyRepository.findWithUsersByIdCompanyIn(List.of(companyId)).get(0));
+            CompanyResponseDto company = companyRepository.findResponseById(companyId).orElseThrow();
+            company.setUsers(userRepository.findResponsesByCompanyId(companyId));
+            return company;
+        });
+    }
+}
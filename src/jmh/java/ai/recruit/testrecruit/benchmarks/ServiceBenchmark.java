@@ -0,0 +1,122 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.TestRecruitApplication;
+import ai.recruit.testrecruit.cache.CollectionCache;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Service read/write paths against the embedded H2 database. With {@code caching=off}
+ * every read starts from an evicted entry, so it measures the query plus mapping cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int COMPANIES = 100;
+    private static final int USERS = 50;
+
+    @Param({"on", "off"})
+    private String caching;
+
+    private ConfigurableApplicationContext context;
+    private ICompanyService companyService;
+    private IUserService userService;
+    private CacheManager cacheManager;
+    private CollectionCache<?> companyListCache;
+    private long companyId;
+    private long userId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TestRecruitApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "logging.level.org.springframework.cache=WARN",
+                        "logging.level.ai.recruit.testrecruit=WARN")
+                .run();
+        companyService = context.getBean(ICompanyService.class);
+        userService = context.getBean(IUserService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        companyListCache = (CollectionCache<?>) context.getBeanProvider(ResolvableType.forClassWithGenerics(
+                CollectionCache.class, CompanyResponseDto.class)).getObject();
+
+        companyService.createCompanies(IntStream.range(0, COMPANIES)
+                .mapToObj(i -> company("seed-" + i))
+                .toList());
+        companyId = companyService.createCompany(company("benchmark")).getIdCompany();
+        List<UserResponseDto> users = userService.createUsers(IntStream.range(0, USERS)
+                        .mapToObj(i -> UserRequestDto.builder().name("user-" + i).email("user" + i + "@bench.test")
+                                .password("secret").role(Role.SOFTWARE_ENGINEER).companyId(companyId).build())
+                        .toList())
+                .stream().map(result -> result.getItem()).toList();
+        userId = users.get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void evictWhenCachingIsOff() {
+        if (caching.equals("off")) {
+            cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+            companyListCache.invalidate();
+        }
+    }
+
+    @Benchmark
+    public CompanyResponseDto findCompanyById() {
+        return companyService.findCompanyById(companyId);
+    }
+
+    @Benchmark
+    public UserResponseDto findUser() {
+        return userService.findUser(userId);
+    }
+
+    @Benchmark
+    public List<CompanyResponseDto> findAllCompanies() {
+        return companyService.findAllCompanies();
+    }
+
+    @Benchmark
+    public List<CompanyResponseDto> findAllCompanySummaries() {
+        return companyService.findAllCompanySummaries();
+    }
+
+    @Benchmark
+    public CompanyResponseDto createCompany() {
+        return companyService.createCompany(company("created-" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public CompanyResponseDto updateCompany() {
+        return companyService.updateCompany(companyId, company("benchmark-" + sequence.incrementAndGet()), null);
+    }
+
+    private static CompanyRequestDto company(String name) {
+        return CompanyRequestDto.builder().name(name).email(name + "@bench.test").website("https://bench.test").build();
+    }
+}
@@ -0,0 +1,78 @@
+package ai.recruit.testrecruit.benchmarks;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes (and decodes, as a client would) a list of companies with nested users as JSON or Smile, optionally
+ * gzipped the way {@code server.compression} would. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int COMPANIES = 20;
+
+    @Param({"json", "smile"})
+    private String format;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    @Param({"50", "500"})
+    private int usersPerCompany;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<CompanyResponseDto> companies;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = (format.equals("smile") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper())
+                .registerModule(new JavaTimeModule());
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, CompanyResponseDto.class));
+        reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, CompanyResponseDto.class));
+        companies = Collections.nCopies(COMPANIES, Fixtures.companyDto(usersPerCompany));
+        encoded = serialize();
+        System.out.printf("%n%s/%s users=%d payload=%d bytes%n", format, encoding, usersPerCompany, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if (encoding.equals("identity"))
+            return writer.writeValueAsBytes(companies);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            writer.writeValue(gzip, companies);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<CompanyResponseDto> deserialize() throws IOException {
+        if (encoding.equals("identity"))
+            return reader.readValue(encoded);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return reader.readValue(gzip);
+        }
+    }
+}
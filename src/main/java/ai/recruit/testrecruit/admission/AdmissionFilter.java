@@ -0,0 +1,201 @@
+package ai.recruit.testrecruit.admission;
+
+import ai.recruit.testrecruit.config.AdmissionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for {@code /api/**}: every client gets a token bucket per
+ * {@link EndpointClass}, so one integration looping over the full user list or signing up
+ * users in bulk runs out of its own budget without touching anyone else's, and the whole
+ * instance sits behind an adaptive {@link ConcurrencyLimit}. Rejections are answered here
+ * with 429 and {@code Retry-After} before any controller, transaction or BCrypt work starts.
+ * <p>
+ * Runs after the observation filter, so rejected requests still show up in
+ * {@code http.server.requests}. The event stream, bulk export/import and lists requested as
+ * NDJSON or {@code text/event-stream} are rate limited but hold no concurrency slot: they stay
+ * open for as long as the client reads by design, and their duration would otherwise read as
+ * congestion and cut the limit for everyone else.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LONG_RUNNING = Set.of("/api/v1/events", "/api/v1/export", "/api/v1/import");
+    private static final List<MediaType> STREAMING = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private record ClientKey(String client, EndpointClass endpointClass) {
+    }
+
+    private final AdmissionProperties properties;
+    private final Cache<ClientKey, TokenBucket> buckets;
+    private final ConcurrencyLimit concurrency;
+    private final Map<EndpointClass, Counter> admitted = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> concurrencyLimited = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionFilter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getClientIdleTimeout())
+                .build();
+        this.concurrency = new ConcurrencyLimit(properties.getConcurrency());
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            admitted.put(endpointClass, counter(meterRegistry, tag, "admitted", "none"));
+            rateLimited.put(endpointClass, counter(meterRegistry, tag, "rejected", "rate"));
+            concurrencyLimited.put(endpointClass, counter(meterRegistry, tag, "rejected", "concurrency"));
+        }
+        Gauge.builder("http.admission.limit", concurrency, ConcurrencyLimit::limit)
+                .description("Current adaptive limit on requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("http.admission.in.flight", concurrency, ConcurrencyLimit::inFlight)
+                .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String endpointClass, String outcome, String reason) {
+        return Counter.builder("http.admission")
+                .tag("class", endpointClass)
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        AdmissionProperties.Bucket spec = endpointClass.bucket(properties);
+        long now = System.nanoTime();
+        long wait = buckets.get(new ClientKey(client(request), endpointClass),
+                key -> new TokenBucket(spec.getRate(), spec.getBurst(), now)).tryAcquire(now);
+        if (wait > 0) {
+            rateLimited.get(endpointClass).increment();
+            reject(response, wait,
+                    "Rate limit exceeded for " + endpointClass.name().toLowerCase(Locale.ROOT) + " requests");
+            return;
+        }
+        if (!properties.getConcurrency().isEnabled() || isLongRunning(request, endpointClass)) {
+            admitted.get(endpointClass).increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!concurrency.tryAcquire()) {
+            concurrencyLimited.get(endpointClass).increment();
+            reject(response, properties.getConcurrency().getRetryAfter().toNanos(), "Server is at capacity");
+            return;
+        }
+        admitted.get(endpointClass).increment();
+        long start = System.nanoTime();
+        boolean overloaded = true;
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async)
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(start, spec.getLatencyTarget().toNanos()));
+            overloaded = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            if (!async)
+                concurrency.release(System.nanoTime() - start, spec.getLatencyTarget().toNanos(), overloaded);
+        }
+    }
+
+    /**
+     * Mono/Flux, {@code StreamingResponseBody} and other async handlers return from the chain as
+     * soon as they dispatch; the slot is held, and the latency measured, until the response completes.
+     */
+    private final class ReleaseOnCompletion implements AsyncListener {
+        private final long start;
+        private final long targetNanos;
+        private volatile boolean timedOut;
+
+        ReleaseOnCompletion(long start, long targetNanos) {
+            this.start = start;
+            this.targetNanos = targetNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            boolean overloaded = timedOut || event.getSuppliedResponse() instanceof HttpServletResponse response
+                    && response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+            concurrency.release(System.nanoTime() - start, targetNanos, overloaded);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            timedOut = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private static boolean isLongRunning(HttpServletRequest request, EndpointClass endpointClass) {
+        if (LONG_RUNNING.contains(request.getRequestURI().substring(request.getContextPath().length())))
+            return true;
+        if (endpointClass != EndpointClass.LIST)
+            return false;
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        try {
+            return accept != null && MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> STREAMING.stream().anyMatch(type::equalsTypeAndSubtype));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private String client(HttpServletRequest request) {
+        String header = properties.getClientHeader();
+        String client = header == null || header.isBlank() ? null : request.getHeader(header);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos, String message) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
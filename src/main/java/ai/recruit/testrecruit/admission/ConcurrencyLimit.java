@@ -0,0 +1,60 @@
+package ai.recruit.testrecruit.admission;
+
+import ai.recruit.testrecruit.config.AdmissionProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Instance-wide in-flight limit adjusted by AIMD: each on-target completion while the limit
+ * is actually in use grows it by {@code 1/limit} (about one per round of requests), and a
+ * slow or 503 response shrinks it by {@code backoffRatio}, at most once per latency target
+ * so one burst of slow responses backs off once rather than collapsing to the floor.
+ */
+final class ConcurrencyLimit {
+
+    private final AdmissionProperties.Concurrency properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+
+    ConcurrencyLimit(AdmissionProperties.Concurrency properties) {
+        this.properties = properties;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(properties.getInitialLimit()));
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit())
+                return false;
+            if (inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    void release(long latencyNanos, long targetNanos, boolean overloaded) {
+        int running = inFlight.getAndDecrement();
+        if (overloaded || latencyNanos > targetNanos) {
+            long now = System.nanoTime();
+            long last = lastDecrease.get();
+            if (now - last > targetNanos && lastDecrease.compareAndSet(last, now))
+                update(limit -> Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio()));
+        } else if (running * 2 >= limit()) {
+            update(limit -> Math.min(properties.getMaxLimit(), limit + 1 / limit));
+        }
+    }
+
+    int limit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void update(DoubleUnaryOperator change) {
+        limitBits.updateAndGet(bits -> Double.doubleToLongBits(change.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,43 @@
+package ai.recruit.testrecruit.admission;
+
+import ai.recruit.testrecruit.config.AdmissionProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+import java.util.regex.Pattern;
+
+/**
+ * Groups endpoints by what a request costs the instance, so each group gets its own bucket.
+ */
+public enum EndpointClass {
+    /** Single-resource reads, mostly served from cache. */
+    READ,
+    /** Unbounded or paged lists and exports that scan tables. */
+    LIST,
+    /** User creates and updates, which run BCrypt. */
+    HASH,
+    /** Every other mutation. */
+    WRITE;
+
+    private static final Pattern LISTS = Pattern.compile("/api/v[12]/(users|companies|companies/[^/]+/users|export)/?");
+    private static final Pattern USER_WRITES = Pattern.compile("/api/v[12]/users(:batch|/[^/]+)?/?");
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+            return LISTS.matcher(path).matches() ? LIST : READ;
+        if ((HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)) && USER_WRITES.matcher(path).matches())
+            return HASH;
+        return WRITE;
+    }
+
+    public AdmissionProperties.Bucket bucket(AdmissionProperties properties) {
+        return switch (this) {
+            case READ -> properties.getRead();
+            case LIST -> properties.getList();
+            case HASH -> properties.getHash();
+            case WRITE -> properties.getWrite();
+        };
+    }
+}
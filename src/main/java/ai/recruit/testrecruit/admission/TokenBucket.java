@@ -0,0 +1,38 @@
+package ai.recruit.testrecruit.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single theoretical arrival time (GCRA): a request is
+ * admitted while the schedule is no more than {@code burst - 1} intervals ahead of now,
+ * and each admission pushes the schedule one interval further.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double ratePerSecond, int burst, long now) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / ratePerSecond));
+        this.toleranceNanos = (Math.max(1, burst) - 1) * intervalNanos;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return {@code 0} when admitted, otherwise the nanoseconds until the next token
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long ahead = start - now;
+            if (ahead > toleranceNanos)
+                return ahead - toleranceNanos;
+            if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos))
+                return 0;
+        }
+    }
+}
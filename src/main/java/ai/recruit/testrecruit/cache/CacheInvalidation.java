@@ -0,0 +1,29 @@
+package ai.recruit.testrecruit.cache;
+
+/**
+ * One committed cache change as seen by peers. {@code id} and {@code version} are unused
+ * for {@link Kind#LIST_CHANGED}.
+ */
+public record CacheInvalidation(Kind kind, String cache, long id, long version) {
+
+    public enum Kind {
+        /** The entry was rewritten at {@code version}; peers drop anything older. */
+        UPDATED,
+        /** The entry is gone or embeds something that changed; peers drop it. */
+        EVICTED,
+        /** Membership of the cache's list endpoint changed. */
+        LIST_CHANGED
+    }
+
+    public static CacheInvalidation updated(String cache, long id, long version) {
+        return new CacheInvalidation(Kind.UPDATED, cache, id, version);
+    }
+
+    public static CacheInvalidation evicted(String cache, long id) {
+        return new CacheInvalidation(Kind.EVICTED, cache, id, 0);
+    }
+
+    public static CacheInvalidation listChanged(String cache) {
+        return new CacheInvalidation(Kind.LIST_CHANGED, cache, 0, 0);
+    }
+}
@@ -0,0 +1,147 @@
+package ai.recruit.testrecruit.cache;
+
+import ai.recruit.testrecruit.config.CacheTierProperties;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the per-JVM caches of several replicas coherent. The services report every cache
+ * write here; once the transaction commits it is queued, and a flusher publishes the queue
+ * through the configured {@link InvalidationTransport} every {@code flush-interval}, with
+ * repeated changes to one entry collapsed into one message.
+ * <p>
+ * Peers never receive values, only what to drop: they evict the entry (or skip it when
+ * their copy is already at the published version) and reload it from the shared database
+ * on the next read. Without {@code app.cache.coherence.transport} nothing is queued.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final CacheTierProperties.Coherence properties;
+    private final InvalidationTransport transport;
+    private final CacheManager cacheManager;
+    private final Map<String, CollectionCache<?>> listCaches;
+    private final Queue<CacheInvalidation> pending = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+
+    private record Key(CacheInvalidation.Kind kind, String cache, long id) {
+    }
+
+    public CacheInvalidationBus(CacheTierProperties properties, ObjectProvider<InvalidationTransport> transport,
+                                CacheManager cacheManager, CollectionCache<UserResponseDto> userListCache,
+                                CollectionCache<CompanyResponseDto> companyListCache) {
+        this.properties = properties.getCoherence();
+        this.transport = transport.getIfAvailable();
+        this.cacheManager = cacheManager;
+        this.listCaches = Map.of("users", userListCache, "companies", companyListCache);
+        if (this.transport == null) {
+            this.flusher = null;
+            return;
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.transport.start(this::receive);
+        long interval = this.properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void updated(String cache, long id, long version) {
+        publishAfterCommit(CacheInvalidation.updated(cache, id, version));
+    }
+
+    public void evicted(String cache, long id) {
+        publishAfterCommit(CacheInvalidation.evicted(cache, id));
+    }
+
+    public void listChanged(String cache) {
+        publishAfterCommit(CacheInvalidation.listChanged(cache));
+    }
+
+    private void publishAfterCommit(CacheInvalidation invalidation) {
+        if (transport != null)
+            AfterCommit.run(() -> pending.add(invalidation));
+    }
+
+    void flush() {
+        while (!pending.isEmpty()) {
+            Map<Key, CacheInvalidation> batch = new LinkedHashMap<>();
+            CacheInvalidation next;
+            while (batch.size() < properties.getMaxBatch() && (next = pending.poll()) != null)
+                batch.merge(new Key(next.kind(), next.cache(), next.id()), next,
+                        (first, second) -> first.version() >= second.version() ? first : second);
+            try {
+                transport.publish(new InvalidationTransport.Batch(origin, new ArrayList<>(batch.values())));
+            } catch (RuntimeException e) {
+                log.warn("Dropping {} cache invalidations that could not be published", batch.size(), e);
+            }
+        }
+    }
+
+    private void receive(InvalidationTransport.Batch batch) {
+        if (origin.equals(batch.origin()))
+            return;
+        batch.invalidations().forEach(this::apply);
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        CollectionCache<?> listCache = listCaches.get(invalidation.cache());
+        if (listCache == null)
+            return;
+        switch (invalidation.kind()) {
+            case LIST_CHANGED -> listCache.invalidate();
+            case EVICTED -> listCache.evict(invalidation.id());
+            case UPDATED -> {
+                if (cachedVersion(invalidation.cache(), invalidation.id()) < invalidation.version())
+                    listCache.evict(invalidation.id());
+            }
+        }
+    }
+
+    /**
+     * Version of the local entry, or {@code -1} when there is none worth keeping. Reads the native
+     * cache: {@code Cache.get} would load the row through the refreshing loader.
+     */
+    @SuppressWarnings("unchecked")
+    private long cachedVersion(String cacheName, long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        Object value = cache == null ? null
+                : ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).getIfPresent(id);
+        if (value instanceof UserResponseDto user)
+            return user.getVersion();
+        if (value instanceof CompanyResponseDto company)
+            return company.getVersion();
+        return -1;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (transport == null)
+            return;
+        flusher.shutdown();
+        flush();
+        transport.stop();
+    }
+}
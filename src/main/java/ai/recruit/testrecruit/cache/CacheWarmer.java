@@ -0,0 +1,279 @@
+package ai.recruit.testrecruit.cache;
+
+import ai.recruit.testrecruit.config.CacheTierProperties;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.mapper.CompanyResponseMapper;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.IdVersion;
+import ai.recruit.testrecruit.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Preloads the per-id caches before the application reports ready. Runners finish before
+ * Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so the readiness probe stays
+ * down until the hottest entries are in.
+ * <p>
+ * When {@code app.cache.warm-up.snapshot} is set, the hottest entries are written there
+ * as Smile at shutdown. On startup a snapshot entry is only reused if its {@code @Version}
+ * (and for a company, the id and version of every user it embeds) still matches the
+ * database; anything else is reloaded. Without a snapshot the newest rows are preloaded.
+ * The snapshot holds password hashes and is written readable by its owner only.
+ * <p>
+ * Warm-up is an optimisation, never a reason not to start: a snapshot that cannot be read or
+ * applied is deleted and the newest rows are preloaded instead, and if that fails too the
+ * application starts with cold caches.
+ */
+@Component
+public class CacheWarmer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+    /** Cached users carry their password hash, so the snapshot is kept private to the service account. */
+    private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY =
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+    private final CacheTierProperties.WarmUp properties;
+    private final CacheManager cacheManager;
+    private final CollectionCache<UserResponseDto> userListCache;
+    private final CollectionCache<CompanyResponseDto> companyListCache;
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final CompanyResponseMapper companyResponseMapper;
+    private final TransactionTemplate readOnly;
+    private final ObjectMapper smileMapper;
+
+    record Snapshot(List<UserResponseDto> users, List<CompanyResponseDto> companies) {
+    }
+
+    public CacheWarmer(CacheTierProperties properties, CacheManager cacheManager,
+                       CollectionCache<UserResponseDto> userListCache,
+                       CollectionCache<CompanyResponseDto> companyListCache,
+                       UserRepository userRepository, CompanyRepository companyRepository,
+                       CompanyResponseMapper companyResponseMapper, PlatformTransactionManager transactionManager,
+                       Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.properties = properties.getWarmUp();
+        this.cacheManager = cacheManager;
+        this.userListCache = userListCache;
+        this.companyListCache = companyListCache;
+        this.userRepository = userRepository;
+        this.companyRepository = companyRepository;
+        this.companyResponseMapper = companyResponseMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled())
+            return;
+        try {
+            warmUp();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+            log.warn("Cache warm-up failed, starting with cold caches", e);
+        }
+    }
+
+    public void warmUp() throws Exception {
+        Snapshot snapshot = readSnapshot();
+        if (snapshot == null) {
+            warmUp(null);
+            return;
+        }
+        try {
+            warmUp(snapshot);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Discarding cache snapshot {} that could not be applied", snapshotPath(), e);
+            deleteSnapshot();
+            warmUp(null);
+        }
+    }
+
+    private void warmUp(Snapshot snapshot) throws Exception {
+        long start = System.nanoTime();
+        Map<Long, UserResponseDto> snapshotUsers = snapshot == null ? Map.of() : snapshot.users().stream()
+                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        Map<Long, CompanyResponseDto> snapshotCompanies = snapshot == null ? Map.of() : snapshot.companies().stream()
+                .collect(Collectors.toMap(CompanyResponseDto::getIdCompany, Function.identity(), (a, b) -> a,
+                        LinkedHashMap::new));
+
+        List<Long> userIds = snapshot != null
+                ? snapshotUsers.keySet().stream().limit(properties.getUsers()).toList()
+                : readOnly.execute(status -> userRepository.findRecentIds(Limit.of(properties.getUsers())));
+        List<Long> companyIds = snapshot != null
+                ? snapshotCompanies.keySet().stream().limit(properties.getCompanies()).toList()
+                : readOnly.execute(status -> companyRepository.findRecentIds(Limit.of(properties.getCompanies())));
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        try {
+            List<Future<?>> batches = new ArrayList<>();
+            for (List<Long> batch : batches(userIds))
+                batches.add(executor.submit(() -> userListCache.preload(batch,
+                        missing -> readOnly.execute(status -> loadUsers(missing, snapshotUsers)))));
+            for (List<Long> batch : batches(companyIds))
+                batches.add(executor.submit(() -> companyListCache.preload(batch,
+                        missing -> readOnly.execute(status -> loadCompanies(missing, snapshotCompanies)))));
+            for (Future<?> batch : batches)
+                batch.get();
+        } finally {
+            executor.shutdown();
+        }
+        log.info("Cache warm-up loaded {} users and {} companies in {}ms{}", userIds.size(), companyIds.size(),
+                (System.nanoTime() - start) / 1_000_000, snapshot != null ? " from snapshot" : "");
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        Path path = snapshotPath();
+        if (path == null)
+            return;
+        Snapshot snapshot = new Snapshot(hottest("users", UserResponseDto.class, properties.getUsers()),
+                hottest("companies", CompanyResponseDto.class, properties.getCompanies()));
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Path temp = directory.getFileSystem().supportedFileAttributeViews().contains("posix")
+                    ? Files.createTempFile(directory, "cache", ".tmp", OWNER_ONLY)
+                    : Files.createTempFile(directory, "cache", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                smileMapper.writeValue(out, snapshot);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write cache snapshot to {}", path, e);
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.isReadable(path))
+            return null;
+        try (InputStream in = Files.newInputStream(path)) {
+            return smileMapper.readValue(in, Snapshot.class);
+        } catch (IOException e) {
+            log.warn("Discarding unreadable cache snapshot {}", path, e);
+            deleteSnapshot();
+            return null;
+        }
+    }
+
+    private void deleteSnapshot() {
+        Path path = snapshotPath();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete cache snapshot {}", path, e);
+        }
+    }
+
+    private List<UserResponseDto> loadUsers(List<Long> ids, Map<Long, UserResponseDto> snapshot) {
+        List<UserResponseDto> users = new ArrayList<>(ids.size());
+        List<Long> stale = new ArrayList<>();
+        for (IdVersion current : userRepository.findVersionsByIdIn(ids)) {
+            UserResponseDto cached = snapshot.get(current.getId());
+            if (cached != null && cached.getVersion() == current.getVersion())
+                users.add(cached);
+            else
+                stale.add(current.getId());
+        }
+        if (!stale.isEmpty())
+            users.addAll(userRepository.findResponsesByIdIn(stale));
+        return users;
+    }
+
+    private List<CompanyResponseDto> loadCompanies(List<Long> ids, Map<Long, CompanyResponseDto> snapshot) {
+        if (snapshot.isEmpty())
+            return mapCompanies(companyRepository.findWithUsersByIdCompanyIn(ids));
+        Map<Long, Set<List<Long>>> members = new HashMap<>();
+        userRepository.findMemberVersionsByCompanyIdIn(ids).forEach(member -> members
+                .computeIfAbsent(member.getCompanyId(), id -> new HashSet<>())
+                .add(List.of(member.getId(), member.getVersion())));
+        List<CompanyResponseDto> companies = new ArrayList<>(ids.size());
+        List<Long> stale = new ArrayList<>();
+        for (IdVersion current : companyRepository.findVersionsByIdCompanyIn(ids)) {
+            CompanyResponseDto cached = snapshot.get(current.getId());
+            if (cached != null && cached.getVersion() == current.getVersion()
+                    && members.getOrDefault(current.getId(), Set.of()).equals(memberVersions(cached)))
+                companies.add(cached);
+            else
+                stale.add(current.getId());
+        }
+        if (!stale.isEmpty())
+            companies.addAll(mapCompanies(companyRepository.findWithUsersByIdCompanyIn(stale)));
+        return companies;
+    }
+
+    private List<CompanyResponseDto> mapCompanies(List<Company> companies) {
+        return companies.stream().map(companyResponseMapper::companyToCompanyResponseDto).toList();
+    }
+
+    private static Set<List<Long>> memberVersions(CompanyResponseDto company) {
+        return company.getUsers() == null ? Set.of() : company.getUsers().stream()
+                .map(user -> List.of(user.getId(), user.getVersion()))
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> hottest(String cacheName, Class<T> type, int limit) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null)
+            return List.of();
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        Map<Object, Object> entries = nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(nativeCache::asMap);
+        return entries.values().stream().filter(type::isInstance).map(type::cast).limit(limit).toList();
+    }
+
+    private List<List<Long>> batches(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.getBatchSize())
+            batches.add(ids.subList(from, Math.min(from + properties.getBatchSize(), ids.size())));
+        return batches;
+    }
+
+    private Path snapshotPath() {
+        return properties.getSnapshot() == null || properties.getSnapshot().isBlank()
+                ? null : Path.of(properties.getSnapshot());
+    }
+}
@@ -0,0 +1,148 @@
+package ai.recruit.testrecruit.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the membership of a list endpoint as an ordered id snapshot tagged with a
+ * generation. Element values are resolved from the per-id cache, so updates are picked
+ * up through the normal {@code @CachePut} entries and only inserts/deletes need to
+ * {@link #invalidate()}, which is a counter bump rather than a cache flush.
+ * <p>
+ * Elements loaded on a list miss are written back to the per-id cache only if no
+ * element write happened meanwhile, so a load that raced a commit cannot leave a
+ * stale entry behind.
+ */
+public class CollectionCache<T> {
+
+    private final Cache elementCache;
+    private final Function<T, Long> idOf;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final boolean staleWhileRevalidate;
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long generation, List<Long> ids) {
+    }
+
+    public CollectionCache(Cache elementCache, Function<T, Long> idOf) {
+        this(elementCache, idOf, false);
+    }
+
+    public CollectionCache(Cache elementCache, Function<T, Long> idOf, boolean staleWhileRevalidate) {
+        this.elementCache = elementCache;
+        this.idOf = idOf;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Bumps the generation now, so readers inside the writing transaction's window do not
+     * publish a snapshot, and again after commit, so a snapshot built from pre-commit
+     * data is never served.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        markWritten();
+        AfterCommit.run(generation::incrementAndGet);
+    }
+
+    /**
+     * Records an element write that is already reflected in the per-id cache
+     * (for example through {@code @CachePut}).
+     */
+    public void markWritten() {
+        writes.incrementAndGet();
+        AfterCommit.run(writes::incrementAndGet);
+    }
+
+    /**
+     * Drops a per-id entry that another write made stale, now and after commit. In
+     * stale-while-revalidate mode a loading cache instead keeps the entry and reloads it in
+     * the background after commit; Caffeine discards that reload if the entry is written
+     * meanwhile, and refresh-after-write bounds how long a lost reload leaves it stale.
+     */
+    @SuppressWarnings("unchecked")
+    public void evict(long id) {
+        if (staleWhileRevalidate && elementCache.getNativeCache() instanceof LoadingCache<?, ?> loadingCache) {
+            writes.incrementAndGet();
+            AfterCommit.run(() -> {
+                writes.incrementAndGet();
+                ((LoadingCache<Object, ?>) loadingCache).refresh(id);
+            });
+            return;
+        }
+        writes.incrementAndGet();
+        elementCache.evict(id);
+        AfterCommit.run(() -> {
+            writes.incrementAndGet();
+            elementCache.evict(id);
+        });
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public List<T> get(Supplier<List<Long>> idLoader, Function<List<Long>, List<T>> elementLoader) {
+        long current = generation.get();
+        Snapshot cached = snapshot;
+        List<Long> ids;
+        if (cached != null && cached.generation() == current) {
+            ids = cached.ids();
+        } else {
+            ids = List.copyOf(idLoader.get());
+            snapshot = new Snapshot(current, ids);
+        }
+        return resolve(ids, elementLoader);
+    }
+
+    /**
+     * Fills the per-id cache for {@code ids} without touching the list snapshot, with the same
+     * write-back guard as a list miss.
+     */
+    public void preload(List<Long> ids, Function<List<Long>, List<T>> elementLoader) {
+        resolve(ids, elementLoader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> resolve(List<Long> ids, Function<List<Long>, List<T>> elementLoader) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) elementCache.getNativeCache();
+        Map<Long, T> found = new HashMap<>(ids.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            T value = (T) nativeCache.getIfPresent(id);
+            if (value != null)
+                found.put(id, value);
+            else
+                missing.add(id);
+        }
+        if (!missing.isEmpty()) {
+            long writesBeforeLoad = writes.get();
+            List<T> loaded = elementLoader.apply(missing);
+            for (T value : loaded) {
+                Long id = idOf.apply(value);
+                found.put(id, value);
+                if (writes.get() == writesBeforeLoad)
+                    nativeCache.asMap().putIfAbsent(id, value);
+            }
+            if (writes.get() != writesBeforeLoad)
+                loaded.forEach(value -> nativeCache.asMap().remove(idOf.apply(value), value));
+        }
+        List<T> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T value = found.get(id);
+            if (value != null)
+                result.add(value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package ai.recruit.testrecruit.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries batches of {@link CacheInvalidation}s between instances. A transport may hand a
+ * batch back to the instance that published it; the bus skips its own origin.
+ */
+public interface InvalidationTransport {
+
+    record Batch(String origin, List<CacheInvalidation> invalidations) {
+    }
+
+    void publish(Batch batch);
+
+    void start(Consumer<Batch> receiver);
+
+    void stop();
+}
@@ -0,0 +1,108 @@
+package ai.recruit.testrecruit.cache;
+
+import ai.recruit.testrecruit.config.CacheTierProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Shares invalidations through the {@code cache_invalidation} table every instance already
+ * reaches: a batch is one multi-row insert, and each instance polls for rows above the
+ * highest id it has seen. Rows older than the retention are pruned by whichever instance
+ * polls. A row whose id was assigned before, but committed after, a poll that saw a higher
+ * id is missed; expire-after-write bounds how long that leaves an entry stale.
+ */
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+
+    private static final String CREATE_TABLE = """
+            create table if not exists cache_invalidation (
+                id bigint generated by default as identity primary key,
+                origin varchar(36) not null,
+                kind varchar(16) not null,
+                cache_name varchar(64) not null,
+                entry_id bigint not null,
+                entry_version bigint not null,
+                created_at timestamp not null
+            )""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheTierProperties.Coherence properties;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-poll");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long lastSeen;
+    private long polls;
+
+    private record Row(long id, String origin, CacheInvalidation invalidation) {
+    }
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbcTemplate, CacheTierProperties.Coherence properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(Batch batch) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("insert into cache_invalidation "
+                        + "(origin, kind, cache_name, entry_id, entry_version, created_at) values (?, ?, ?, ?, ?, ?)",
+                batch.invalidations().stream()
+                        .map(invalidation -> new Object[]{batch.origin(), invalidation.kind().name(),
+                                invalidation.cache(), invalidation.id(), invalidation.version(), now})
+                        .toList());
+    }
+
+    @Override
+    public void start(Consumer<Batch> receiver) {
+        if (properties.isInitializeSchema())
+            jdbcTemplate.execute(CREATE_TABLE);
+        Long max = jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class);
+        lastSeen = max == null ? 0 : max;
+        long interval = properties.getPollInterval().toMillis();
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                poll(receiver);
+            } catch (RuntimeException e) {
+                log.warn("Polling cache invalidations failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(Consumer<Batch> receiver) {
+        List<Row> rows = jdbcTemplate.query("select id, origin, kind, cache_name, entry_id, entry_version "
+                        + "from cache_invalidation where id > ? order by id limit ?",
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("origin"), new CacheInvalidation(
+                        CacheInvalidation.Kind.valueOf(rs.getString("kind")), rs.getString("cache_name"),
+                        rs.getLong("entry_id"), rs.getLong("entry_version"))),
+                lastSeen, properties.getMaxBatch());
+        if (!rows.isEmpty()) {
+            lastSeen = rows.get(rows.size() - 1).id();
+            Map<String, List<CacheInvalidation>> byOrigin = rows.stream().collect(Collectors.groupingBy(Row::origin,
+                    Collectors.mapping(Row::invalidation, Collectors.toCollection(ArrayList::new))));
+            byOrigin.forEach((origin, invalidations) -> receiver.accept(new Batch(origin, invalidations)));
+        }
+        if (++polls % 100 == 0)
+            jdbcTemplate.update("delete from cache_invalidation where created_at < ?",
+                    Timestamp.from(Instant.now().minus(properties.getRetention())));
+    }
+
+    @Override
+    public void stop() {
+        poller.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package ai.recruit.testrecruit.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers batches to every application context in the same JVM, synchronously on the
+ * publishing thread. Meant for tests and for running several contexts side by side.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private static final List<Consumer<Batch>> RECEIVERS = new CopyOnWriteArrayList<>();
+
+    private volatile Consumer<Batch> receiver;
+
+    @Override
+    public void publish(Batch batch) {
+        RECEIVERS.forEach(peer -> peer.accept(batch));
+    }
+
+    @Override
+    public void start(Consumer<Batch> receiver) {
+        this.receiver = receiver;
+        RECEIVERS.add(receiver);
+    }
+
+    @Override
+    public void stop() {
+        RECEIVERS.remove(receiver);
+    }
+}
@@ -0,0 +1,61 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-client token buckets for each endpoint class and the global adaptive concurrency
+ * limit in front of {@code /api/**}, bound from {@code app.admission.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    /**
+     * Header naming the calling integration, for deployments where a gateway sets it. Left empty,
+     * or when a request lacks it, clients are keyed by remote address. Behind a load balancer that
+     * is the caller's address only because {@code server.forward-headers-strategy=native} applies
+     * {@code X-Forwarded-For} from trusted internal proxies; a proxy outside Tomcat's
+     * {@code server.tomcat.remoteip.internal-proxies} must be added there, or every caller shares
+     * the proxy's buckets.
+     */
+    private String clientHeader;
+    private long maxClients = 10_000;
+    private Duration clientIdleTimeout = Duration.ofMinutes(10);
+    private Bucket read = new Bucket(200, 400, Duration.ofMillis(100));
+    private Bucket list = new Bucket(20, 40, Duration.ofMillis(500));
+    private Bucket hash = new Bucket(5, 10, Duration.ofSeconds(1));
+    private Bucket write = new Bucket(50, 100, Duration.ofMillis(250));
+    private Concurrency concurrency = new Concurrency();
+
+    @Data
+    public static class Bucket {
+        /** Sustained requests per second per client. */
+        private double rate;
+        /** Requests a client may send back to back before the rate applies. */
+        private int burst;
+        /** Responses slower than this count as a congestion signal for the concurrency limit. */
+        private Duration latencyTarget;
+
+        public Bucket() {
+        }
+
+        public Bucket(double rate, int burst, Duration latencyTarget) {
+            this.rate = rate;
+            this.burst = burst;
+            this.latencyTarget = latencyTarget;
+        }
+    }
+
+    @Data
+    public static class Concurrency {
+        private boolean enabled = true;
+        private int initialLimit = 64;
+        private int minLimit = 8;
+        private int maxLimit = 512;
+        private double backoffRatio = 0.9;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -1,30 +1,135 @@
 package ai.recruit.testrecruit.config;
 
+import ai.recruit.testrecruit.cache.CollectionCache;
+import ai.recruit.testrecruit.cache.InvalidationTransport;
+import ai.recruit.testrecruit.cache.JdbcInvalidationTransport;
+import ai.recruit.testrecruit.cache.LoopbackInvalidationTransport;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 @EnableCaching
 @Configuration
+@EnableConfigurationProperties(CacheTierProperties.class)
 public class CacheConfig {
 
     private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
 
+    public static final List<String> CACHE_NAMES = List.of("users", "companies");
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheTierProperties properties,
+                                     UserRepository userRepository,
+                                     CompanyRepository companyRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Function<Long, Object> userLoader = id -> userRepository.findResponseById(id).orElse(null);
+        Function<Long, Object> companyLoader = id -> companyRepository.findResponseById(id)
+                .map(company -> {
+                    company.setUsers(userRepository.findResponsesByCompanyId(id));
+                    return company;
+                })
+                .orElse(null);
+
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Arrays.asList(
-                new ConcurrentMapCache("users"),
-                new ConcurrentMapCache("companies")
-        ));
+        cacheManager.setCaches(CACHE_NAMES.stream()
+                .map(name -> {
+                    CacheTierProperties.Spec spec = properties.getSpecs()
+                            .getOrDefault(name, new CacheTierProperties.Spec());
+                    Function<Long, Object> loader = name.equals("users") ? userLoader : companyLoader;
+                    log.debug("Cache '{}' configured with {}", name, spec);
+                    CacheEventRecorder events = new CacheEventRecorder(name, properties.getEventSampleRate(), meterRegistry);
+                    return new CaffeineCache(name, buildCache(spec, idLoader(loader, readOnly), events), false);
+                })
+                .toList());
         return cacheManager;
     }
 
-}
\ No newline at end of file
+    @Bean
+    public CollectionCache<UserResponseDto> userListCache(CacheManager cacheManager, CacheTierProperties properties) {
+        return new CollectionCache<>(cacheManager.getCache("users"), UserResponseDto::getId,
+                properties.isStaleWhileRevalidate());
+    }
+
+    @Bean
+    public CollectionCache<CompanyResponseDto> companyListCache(CacheManager cacheManager, CacheTierProperties properties) {
+        return new CollectionCache<>(cacheManager.getCache("companies"), CompanyResponseDto::getIdCompany,
+                properties.isStaleWhileRevalidate());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.coherence.transport", havingValue = "loopback")
+    public InvalidationTransport loopbackInvalidationTransport() {
+        return new LoopbackInvalidationTransport();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.coherence.transport", havingValue = "jdbc")
+    public InvalidationTransport jdbcInvalidationTransport(JdbcTemplate jdbcTemplate, CacheTierProperties properties) {
+        return new JdbcInvalidationTransport(jdbcTemplate, properties.getCoherence());
+    }
+
+    /**
+     * Builds a bounded, stats-recording cache. Refresh-ahead needs a loader, so the cache
+     * only becomes a loading cache when {@code refreshAfterWrite} is configured.
+     */
+    static Cache<Object, Object> buildCache(CacheTierProperties.Spec spec, CacheLoader<Object, Object> loader,
+                                            RemovalListener<Object, Object> removalListener) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats().removalListener(removalListener);
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher((key, value) -> weigh(value));
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null)
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        if (spec.getRefreshAfterWrite() != null)
+            return builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader);
+        return builder.build();
+    }
+
+    /**
+     * A company entry embeds its users, so it weighs one plus their count; anything else weighs one.
+     */
+    static int weigh(Object value) {
+        return value instanceof CompanyResponseDto company && company.getUsers() != null
+                ? 1 + company.getUsers().size()
+                : 1;
+    }
+
+    /**
+     * Reloads single entries by id. Any other key yields null, which drops it on refresh
+     * and leaves the miss to the cached method.
+     */
+    private static CacheLoader<Object, Object> idLoader(Function<Long, Object> loader, TransactionTemplate readOnly) {
+        return key -> key instanceof Number id
+                ? readOnly.execute(status -> loader.apply(id.longValue()))
+                : null;
+    }
+
+}
@@ -0,0 +1,45 @@
+package ai.recruit.testrecruit.config;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts removals per cache and cause (explicit evicts, replacements by puts, size and
+ * expiry evictions) and logs a sample of them, instead of tracing every cache operation.
+ */
+class CacheEventRecorder implements RemovalListener<Object, Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheEventRecorder.class);
+
+    private final String cacheName;
+    private final double sampleRate;
+    private final Map<RemovalCause, Counter> removals = new EnumMap<>(RemovalCause.class);
+
+    CacheEventRecorder(String cacheName, double sampleRate, MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+        this.sampleRate = sampleRate;
+        for (RemovalCause cause : RemovalCause.values()) {
+            removals.put(cause, Counter.builder("cache.removals")
+                    .description("Entries removed from the cache, by cause")
+                    .tag("cache", cacheName)
+                    .tag("cause", cause.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void onRemoval(Object key, Object value, RemovalCause cause) {
+        removals.get(cause).increment();
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate)
+            log.debug("Cache '{}' removed key {} ({})", cacheName, key, cause);
+    }
+}
@@ -0,0 +1,78 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache sizing and expiry, bound from {@code app.cache.specs.<cacheName>.*}.
+ * A cache is bounded either by entry count or by weight, where a company entry
+ * weighs one plus the number of users it embeds and any other entry weighs one.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheTierProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * Fraction of removal events written to the debug log.
+     */
+    private double eventSampleRate = 0.001;
+
+    /**
+     * When set, a write that makes a cached company stale triggers a background reload
+     * instead of an eviction, so readers keep getting the previous value until it lands.
+     */
+    private boolean staleWhileRevalidate = false;
+
+    private WarmUp warmUp = new WarmUp();
+
+    private Coherence coherence = new Coherence();
+
+    @Data
+    public static class Spec {
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration refreshAfterWrite;
+    }
+
+    /**
+     * Startup preload of the hottest entries, bound from {@code app.cache.warm-up.*}.
+     */
+    @Data
+    public static class WarmUp {
+        private boolean enabled = true;
+        private int users = 1000;
+        private int companies = 200;
+        private int batchSize = 200;
+        private int parallelism = 4;
+        /**
+         * File the hottest entries are written to at shutdown and restored from at startup; unset disables it.
+         */
+        private String snapshot;
+    }
+
+    /**
+     * Cross-instance invalidation, bound from {@code app.cache.coherence.*}.
+     */
+    @Data
+    public static class Coherence {
+        /**
+         * {@code none}, {@code loopback} (contexts in one JVM) or {@code jdbc} (shared table).
+         */
+        private String transport = "none";
+        private Duration flushInterval = Duration.ofMillis(50);
+        private int maxBatch = 500;
+        private Duration pollInterval = Duration.ofMillis(200);
+        private Duration retention = Duration.ofMinutes(10);
+        /**
+         * Creates the JDBC transport's table on start; off where Flyway owns the schema.
+         */
+        private boolean initializeSchema = true;
+    }
+}
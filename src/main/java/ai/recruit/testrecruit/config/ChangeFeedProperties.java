@@ -0,0 +1,27 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the change feed behind {@code GET /api/v1/events}, bound from {@code app.events.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.events")
+public class ChangeFeedProperties {
+    private int bufferSize = 4096;
+    /**
+     * Events a subscriber may have pending. One commit can publish a whole batch create (up to
+     * 1000 rows) or import batch ({@code app.transfer.batch-size}), so this must hold at least
+     * that many, or such a burst disconnects every subscriber, fast ones included.
+     */
+    private int subscriberQueue = 2048;
+    private int maxSubscribers = 1000;
+    private int senderThreads = 4;
+    /** A send blocked longer than this drops the subscriber and frees its sender slot. */
+    private Duration sendTimeout = Duration.ofSeconds(5);
+    private Duration timeout = Duration.ofMinutes(30);
+    private Duration retryAfter = Duration.ofSeconds(5);
+}
@@ -0,0 +1,19 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the dedicated BCrypt executor, bound from {@code app.password-hashing.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+    private int cost = 10;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,21 @@
+package ai.recruit.testrecruit.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties(ReactiveApiProperties.class)
+public class ReactiveApiConfig {
+
+    /**
+     * Runs the blocking service calls behind {@code /api/v2}, so servlet threads are handed
+     * back while a request waits for the database.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(ReactiveApiProperties properties) {
+        return Schedulers.newBoundedElastic(properties.getThreads(), properties.getQueuedTasks(), "jpa");
+    }
+}
@@ -0,0 +1,22 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sizing of the scheduler behind {@code /api/v2}, bound from {@code app.reactive.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.reactive")
+public class ReactiveApiProperties {
+    /**
+     * Threads allowed to block on JPA at once; matching the connection pool keeps them from
+     * queueing on Hikari instead of on the scheduler.
+     */
+    private int threads = 10;
+    private int queuedTasks = 10_000;
+    /**
+     * Rows fetched per keyset query while a list is streamed.
+     */
+    private int pageSize = 100;
+}
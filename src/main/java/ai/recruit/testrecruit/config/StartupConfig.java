@@ -0,0 +1,45 @@
+package ai.recruit.testrecruit.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    /**
+     * Makes every bean from {@code app.startup.lazy-packages} lazy, so it is built on first use
+     * instead of before the first request. The default covers springdoc, whose beans only serve
+     * the API docs. Beans that eager beans depend on are still created at startup.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("app.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty())
+                return;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (packages.stream().anyMatch(prefix -> declaredIn(definition, prefix + ".")))
+                    definition.setLazyInit(true);
+            }
+        };
+    }
+
+    private static boolean declaredIn(BeanDefinition definition, String prefix) {
+        if (definition.getBeanClassName() != null && definition.getBeanClassName().startsWith(prefix))
+            return true;
+        return definition instanceof AnnotatedBeanDefinition annotated
+                && annotated.getFactoryMethodMetadata() != null
+                && annotated.getFactoryMethodMetadata().getDeclaringClassName().startsWith(prefix);
+    }
+}
@@ -0,0 +1,20 @@
+package ai.recruit.testrecruit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bulk import sizing, bound from {@code app.transfer.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.transfer")
+public class TransferProperties {
+    /**
+     * Records committed per transaction.
+     */
+    private int batchSize = 500;
+    /**
+     * Rejected rows listed per progress line; the rest are only counted.
+     */
+    private int maxRejectionsReported = 100;
+}
@@ -0,0 +1,21 @@
+package ai.recruit.testrecruit.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class WebConfig {
+
+    /**
+     * Answers {@code Accept: application/x-jackson-smile} on every endpoint that returns a body, built from
+     * Boot's builder so Smile and JSON share modules and {@code spring.jackson.*} settings. Smile back-references
+     * repeated property names, which is where nested user lists spend most of their JSON bytes.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
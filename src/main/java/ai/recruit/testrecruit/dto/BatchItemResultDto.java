@@ -0,0 +1,24 @@
+package ai.recruit.testrecruit.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDto<T> {
+    private int index;
+    private int status;
+    private String message;
+    private T item;
+
+    public static <T> BatchItemResultDto<T> created(int index, T item) {
+        return new BatchItemResultDto<>(index, HttpStatus.CREATED.value(), null, item);
+    }
+
+    public static <T> BatchItemResultDto<T> rejected(int index, HttpStatus status, String message) {
+        return new BatchItemResultDto<>(index, status.value(), message, null);
+    }
+}
@@ -0,0 +1,15 @@
+package ai.recruit.testrecruit.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDto {
+    private long sequence;
+    private String resource;
+    private String action;
+    private Long id;
+}
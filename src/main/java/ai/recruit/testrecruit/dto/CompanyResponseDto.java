@@ -1,6 +1,7 @@
 package ai.recruit.testrecruit.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,5 +24,22 @@ public class CompanyResponseDto {
     private String website;
     @JsonFormat(pattern = "yyyy/MM/dd")
     private LocalDate foundedDate;
+    private long version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<UserResponseDto> users=new ArrayList<>();
+
+    /**
+     * Scalar columns only, for JPQL constructor projections; users are attached afterwards.
+     */
+    public CompanyResponseDto(Long idCompany, String name, String email, String phoneNumber, String address,
+                              String website, LocalDate foundedDate, long version) {
+        this.idCompany = idCompany;
+        this.name = name;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.address = address;
+        this.website = website;
+        this.foundedDate = foundedDate;
+        this.version = version;
+    }
 }
@@ -0,0 +1,21 @@
+package ai.recruit.testrecruit.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompanyTransferDto implements TransferRecordDto {
+    private Long id;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private String address;
+    private String website;
+    private LocalDate foundedDate;
+}
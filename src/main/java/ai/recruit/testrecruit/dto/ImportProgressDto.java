@@ -0,0 +1,26 @@
+package ai.recruit.testrecruit.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+/**
+ * Running totals after each committed batch. {@code rejections} only lists the rows of the
+ * latest batch; {@code error} is set when the upload could not be read any further.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportProgressDto {
+    private long records;
+    private long companies;
+    private long users;
+    private long rejected;
+    private long batches;
+    private boolean done;
+    private List<String> rejections;
+    private String error;
+}
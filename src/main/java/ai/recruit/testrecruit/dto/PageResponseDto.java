@@ -0,0 +1,17 @@
+package ai.recruit.testrecruit.dto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+}
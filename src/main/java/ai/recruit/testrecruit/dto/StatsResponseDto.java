@@ -0,0 +1,16 @@
+package ai.recruit.testrecruit.dto;
+import ai.recruit.testrecruit.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsResponseDto {
+    private long totalUsers;
+    private Map<Long, Long> usersByCompany;
+    private Map<Role, Long> usersByRole;
+}
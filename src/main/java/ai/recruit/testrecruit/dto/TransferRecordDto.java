@@ -0,0 +1,17 @@
+package ai.recruit.testrecruit.dto;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One row of a bulk export or import. Ids are the source instance's; an import assigns new
+ * ids and maps each user's {@code companyId} through the companies imported before it.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = CompanyTransferDto.class, name = "company"),
+        @JsonSubTypes.Type(value = UserTransferDto.class, name = "user")
+})
+public interface TransferRecordDto {
+    Long getId();
+}
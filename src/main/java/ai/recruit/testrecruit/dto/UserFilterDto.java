@@ -0,0 +1,21 @@
+package ai.recruit.testrecruit.dto;
+import ai.recruit.testrecruit.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserFilterDto {
+    private Long companyId;
+    private Role role;
+    private String namePrefix;
+    private String sort;
+
+    public boolean hasCriteria() {
+        return companyId != null || role != null || (namePrefix != null && !namePrefix.isEmpty())
+                || (sort != null && !sort.isBlank());
+    }
+}
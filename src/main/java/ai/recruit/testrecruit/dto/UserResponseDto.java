@@ -20,4 +20,5 @@ public class UserResponseDto {
     @JsonFormat(pattern = "yyyy/MM/dd")
     private LocalDate dateOfBirth;
     private Role role;
+    private long version;
 }
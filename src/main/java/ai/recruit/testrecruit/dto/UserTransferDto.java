@@ -0,0 +1,27 @@
+package ai.recruit.testrecruit.dto;
+import ai.recruit.testrecruit.enums.Role;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+/**
+ * Carries the stored BCrypt hash, so migrated users keep their passwords without rehashing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserTransferDto implements TransferRecordDto {
+    private Long id;
+    private Long companyId;
+    private String name;
+    private String email;
+    private String password;
+    private String phoneNumber;
+    private String address;
+    private LocalDate dateOfBirth;
+    private Role role;
+}
@@ -1,6 +1,7 @@
 package ai.recruit.testrecruit.entities;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -10,10 +11,17 @@ import java.util.List;
 @NoArgsConstructor
 @Data
 @Builder
-@Table(name = "COMPANIES")
+@Table(name = "COMPANIES", uniqueConstraints = {
+        @UniqueConstraint(name = Company.UK_NAME, columnNames = "name"),
+        @UniqueConstraint(name = Company.UK_EMAIL, columnNames = "email")
+})
 public class Company {
+    public static final String UK_NAME = "UK_COMPANIES_NAME";
+    public static final String UK_EMAIL = "UK_COMPANIES_EMAIL";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+    @SequenceGenerator(name = "companies_seq", sequenceName = "COMPANIES_SEQ", allocationSize = 50)
     private long idCompany;
     private String name;
     private String email;
@@ -21,8 +29,11 @@ public class Company {
     private String address;
     private String website;
     private LocalDate foundedDate;
+    @Version
+    private long version;
     @OneToMany(mappedBy = "company", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @ToString.Exclude
+    @BatchSize(size = 50)
     private List<User> users=new ArrayList<>();
 
 }
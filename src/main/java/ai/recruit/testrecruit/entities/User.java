@@ -9,12 +9,25 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Data
 @Builder
-@Table(name = "USERS")
+@Table(name = "USERS", uniqueConstraints = @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"), indexes = {
+        @Index(name = "IX_USERS_COMPANY_ROLE", columnList = "company_id, role"),
+        @Index(name = "IX_USERS_NAME_LOWER", columnList = "name_lower")
+})
 public class User {
+    public static final String UK_EMAIL = "UK_USERS_EMAIL";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "USERS_SEQ", allocationSize = 50)
     private long  id;
     private String  name;
+    /**
+     * Lower-cased {@code name} maintained by the database, so case-insensitive prefix search is an index range scan.
+     */
+    @Column(name = "name_lower", insertable = false, updatable = false,
+            columnDefinition = "varchar(255) generated always as (lower(name))")
+    @Setter(AccessLevel.NONE)
+    private String nameLower;
     private String  email;
     private String  password;
     private String phoneNumber;
@@ -22,6 +35,8 @@ public class User {
     private LocalDate dateOfBirth;
     @Enumerated(EnumType.STRING)
     private Role role;
+    @Version
+    private long version;
     @ManyToOne
     @JoinColumn(name = "company_id")
     private Company company;
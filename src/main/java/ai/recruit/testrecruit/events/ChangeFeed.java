@@ -0,0 +1,241 @@
+package ai.recruit.testrecruit.events;
+
+import ai.recruit.testrecruit.cache.AfterCommit;
+import ai.recruit.testrecruit.config.ChangeFeedProperties;
+import ai.recruit.testrecruit.dto.ChangeEventDto;
+import ai.recruit.testrecruit.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process feed of committed writes. Events get a sequence number and are kept in a
+ * ring buffer so a reconnecting client can resume from {@code Last-Event-ID}; a client
+ * that fell behind the buffer gets a {@code reset} event and should reload.
+ * <p>
+ * Writers only append and offer to each subscriber's bounded queue. Sending happens on
+ * a small dedicated pool, and a subscriber whose queue is full is disconnected, so a slow
+ * reader never blocks a writer or other readers. Servlet writes block, so a reader that
+ * stops reading would hold its sender thread; once a send has run longer than
+ * {@code send-timeout} the subscriber is dropped and the pool gets a replacement thread
+ * until the stuck write fails at Tomcat's connection timeout.
+ */
+@Component
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeed {
+
+    public static final String USER = "user";
+    public static final String COMPANY = "company";
+
+    private final ChangeFeedProperties properties;
+    private final ChangeEventDto[] ring;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService watchdog;
+    private final Counter dropped;
+    private long lastSequence;
+
+    public ChangeFeed(ChangeFeedProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ring = new ChangeEventDto[properties.getBufferSize()];
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkEvery = Math.max(10, properties.getSendTimeout().toMillis() / 4);
+        watchdog.scheduleWithFixedDelay(this::dropStalled, checkEvery, checkEvery, TimeUnit.MILLISECONDS);
+        Gauge.builder("events.subscribers", subscribers, Set::size).register(meterRegistry);
+        this.dropped = Counter.builder("events.subscribers.dropped")
+                .description("Subscribers disconnected because their queue was full or a send timed out")
+                .register(meterRegistry);
+    }
+
+    public void created(String resource, long id) {
+        publish(resource, "created", id);
+    }
+
+    public void updated(String resource, long id) {
+        publish(resource, "updated", id);
+    }
+
+    public void deleted(String resource, long id) {
+        publish(resource, "deleted", id);
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @param lastEventId the last sequence the client saw, or null to receive only new events
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = newEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        // checked under the same lock as the add, so concurrent subscribes cannot overshoot the cap
+        synchronized (this) {
+            if (subscribers.size() >= properties.getMaxSubscribers())
+                throw new ServiceUnavailableException("Too many event subscribers, retry later",
+                        properties.getRetryAfter().toSeconds());
+            if (lastEventId != null)
+                replay(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void publish(String resource, String action, long id) {
+        AfterCommit.run(() -> append(new ChangeEventDto(0, resource, action, id)));
+    }
+
+    private synchronized void append(ChangeEventDto event) {
+        event.setSequence(++lastSequence);
+        ring[(int) (lastSequence % ring.length)] = event;
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long missed = lastSequence - lastEventId;
+        if (missed < 0 || missed > ring.length || missed > properties.getSubscriberQueue()) {
+            subscriber.offer(new ChangeEventDto(lastSequence, "*", "reset", null));
+            return;
+        }
+        for (long sequence = lastEventId + 1; sequence <= lastSequence; sequence++)
+            subscriber.offer(ring[(int) (sequence % ring.length)]);
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        long timeout = properties.getSendTimeout().toNanos();
+        subscribers.forEach(subscriber -> {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > timeout && subscriber.stalled.compareAndSet(false, true)) {
+                dropped.increment();
+                subscriber.close();
+                resizeSender(1);
+            }
+        });
+    }
+
+    /**
+     * Grows the pool by one per stalled send and shrinks it back when that send returns.
+     */
+    private void resizeSender(int delta) {
+        synchronized (sender) {
+            int size = sender.getCorePoolSize() + delta;
+            if (delta > 0) {
+                sender.setMaximumPoolSize(size);
+                sender.setCorePoolSize(size);
+            } else {
+                sender.setCorePoolSize(size);
+                sender.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdown();
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter.complete();
+        });
+        sender.shutdown();
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<ChangeEventDto> queue = new LinkedBlockingQueue<>(properties.getSubscriberQueue());
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(ChangeEventDto event) {
+            if (closed)
+                return;
+            if (!queue.offer(event)) {
+                dropped.increment();
+                close();
+                // a send in progress completes the emitter when it returns; completing it here would wait on that send
+                if (scheduled.compareAndSet(false, true))
+                    sender.execute(this);
+                return;
+            }
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            try {
+                ChangeEventDto event;
+                while (!closed && (event = queue.poll()) != null) {
+                    sendingSince = System.nanoTime();
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getSequence()))
+                            .name(event.getResource() + "." + event.getAction())
+                            .data(event));
+                    sendingSince = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                sendingSince = 0;
+                if (stalled.get())
+                    resizeSender(-1);
+                scheduled.set(false);
+            }
+            if (closed)
+                emitter.complete();
+            else if (!queue.isEmpty())
+                schedule();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void schedule() {
+            if (!closed && scheduled.compareAndSet(false, true))
+                sender.execute(this);
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package ai.recruit.testrecruit.exception;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Map;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Map<String, String> UNIQUE_CONSTRAINT_MESSAGES = Map.of(
+            Company.UK_NAME, "Name already exists",
+            Company.UK_EMAIL, "Mail already exists",
+            User.UK_EMAIL, "Email already exists"
+    );
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<String> handleNotFoundException(NotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -17,11 +33,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
     }
 
+    /**
+     * Uniqueness is enforced by the database, so a violated unique constraint is the
+     * normal conflict path rather than an unexpected error. Any other integrity failure
+     * is not a conflict and is handled like any unexpected error.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        String constraint = UniqueKeys.violated(ex);
+        if (constraint == null)
+            return handleGeneralException(ex);
+        return handleBusinessException(new BusinessException(UNIQUE_CONSTRAINT_MESSAGES.get(constraint)));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return handleBusinessException(new BusinessException("Resource was modified concurrently"));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<String> handleValidationException(ValidationException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<String> handleBindException(BindException ex) {
+        FieldError error = ex.getFieldError();
+        return handleValidationException(new ValidationException(error == null
+                ? "Invalid request parameters"
+                : "Invalid value for " + error.getField() + ": " + error.getRejectedValue()));
+    }
+
+    @ExceptionHandler(TypeMismatchException.class)
+    public ResponseEntity<String> handleTypeMismatchException(TypeMismatchException ex) {
+        return handleValidationException(new ValidationException("Invalid value: " + ex.getValue()));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<String> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneralException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,7 @@
+package ai.recruit.testrecruit.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,14 @@
+package ai.recruit.testrecruit.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String errorMessage, long retryAfterSeconds) {
+        super(errorMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,34 @@
+package ai.recruit.testrecruit.exception;
+
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recognizes the named unique constraints the entities declare, so a duplicate key can be
+ * told apart from NOT NULL, foreign key and other integrity failures.
+ */
+public final class UniqueKeys {
+
+    private static final List<String> CONSTRAINTS = List.of(Company.UK_NAME, Company.UK_EMAIL, User.UK_EMAIL);
+
+    private UniqueKeys() {
+    }
+
+    /**
+     * Returns the unique constraint {@code ex} violated, or null when it is some other integrity failure.
+     */
+    public static String violated(DataIntegrityViolationException ex) {
+        String constraint = ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                ? violation.getConstraintName()
+                : NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        String normalized = constraint == null ? "" : constraint.toUpperCase(Locale.ROOT);
+        return CONSTRAINTS.stream().filter(normalized::contains).findFirst().orElse(null);
+    }
+}
@@ -8,4 +8,7 @@ public interface CompanyResponseMapper {
     @Mapping(source = "users", target = "users")
     CompanyResponseDto companyToCompanyResponseDto(Company company);
 
+    @Mapping(target = "users", ignore = true)
+    CompanyResponseDto companyToCompanySummaryDto(Company company);
+
 }
@@ -0,0 +1,81 @@
+package ai.recruit.testrecruit.pagination;
+
+import ai.recruit.testrecruit.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. The token only carries the last
+ * id served, so the next page is a plain {@code id > ?} range scan on the primary key.
+ * Orderings on another column also carry that column's last value, with the id as tie-breaker.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String PREFIX = "k1:";
+    private static final String KEYED_PREFIX = "k2:";
+
+    /**
+     * Last row served under a keyed ordering; {@code key} is null when that row's column was null.
+     */
+    public record Position(String key, long id) {
+    }
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return encodeRaw(PREFIX + lastId);
+    }
+
+    public static String encode(String lastKey, long lastId) {
+        return encodeRaw(KEYED_PREFIX + lastId + (lastKey == null ? "" : ":" + lastKey));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return 0L;
+        try {
+            return Long.parseLong(decodeRaw(cursor, PREFIX));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * @return the position after which the next page starts, or null for the first page
+     */
+    public static Position decodePosition(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            String raw = decodeRaw(cursor, KEYED_PREFIX);
+            int separator = raw.indexOf(':');
+            return separator < 0
+                    ? new Position(null, Long.parseLong(raw))
+                    : new Position(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT)
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        return limit;
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor, String prefix) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!raw.startsWith(prefix))
+            throw new ValidationException("Invalid cursor");
+        return raw.substring(prefix.length());
+    }
+}
@@ -1,17 +1,71 @@
 package ai.recruit.testrecruit.repository;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.CompanyTransferDto;
 import ai.recruit.testrecruit.entities.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
 
-    boolean existsByName(String name);
+    interface UniqueKeys {
+        String getName();
 
-    boolean existsByEmail(String email);
+        String getEmail();
+    }
 
-    boolean existsByNameAndIdCompanyNot(String name, Long id);
+    @Query("select c.name as name, c.email as email from Company c where c.name in :names or c.email in :emails")
+    List<UniqueKeys> findUniqueKeyConflicts(Collection<String> names, Collection<String> emails);
 
-    boolean existsByEmailAndIdCompanyNot(String email, Long id);
+    @Query("select new ai.recruit.testrecruit.dto.CompanyResponseDto(c.idCompany, c.name, c.email, c.phoneNumber, "
+            + "c.address, c.website, c.foundedDate, c.version) from Company c where c.idCompany = :idCompany")
+    Optional<CompanyResponseDto> findResponseById(long idCompany);
+
+    @Query("select c.idCompany from Company c order by c.idCompany")
+    List<Long> findAllIds();
+
+    @Query("select c.idCompany from Company c order by c.idCompany desc")
+    List<Long> findRecentIds(Limit limit);
+
+    @Query("select c.idCompany as id, c.version as version from Company c where c.idCompany in :ids")
+    List<IdVersion> findVersionsByIdCompanyIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "users")
+    List<Company> findWithUsersByIdCompanyIn(Collection<Long> ids);
+
+    List<Company> findAllByOrderByIdCompanyAsc();
+
+    List<Company> findByIdCompanyGreaterThanOrderByIdCompanyAsc(long idCompany, Limit limit);
+
+    @Query("select c from Company c order by c.idCompany")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Company> streamAllByOrderByIdCompanyAsc();
+
+    @Query("select distinct c from Company c left join fetch c.users order by c.idCompany")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Company> streamAllWithUsers();
+
+    @Query("select new ai.recruit.testrecruit.dto.CompanyTransferDto(c.idCompany, c.name, c.email, c.phoneNumber, "
+            + "c.address, c.website, c.foundedDate) from Company c order by c.idCompany")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CompanyTransferDto> streamTransferRecords();
 }
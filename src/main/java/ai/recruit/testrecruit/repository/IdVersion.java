@@ -0,0 +1,10 @@
+package ai.recruit.testrecruit.repository;
+
+/**
+ * Primary key and {@code @Version} of a row, for checking cached copies without loading them.
+ */
+public interface IdVersion {
+    Long getId();
+
+    Long getVersion();
+}
@@ -1,11 +1,87 @@
 package ai.recruit.testrecruit.repository;
 
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.dto.UserTransferDto;
 import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
+
+    interface Headcount {
+        Long getCompanyId();
+
+        Role getRole();
+
+        long getUsers();
+    }
+
+    interface MemberVersion {
+        Long getCompanyId();
+
+        Long getId();
+
+        Long getVersion();
+    }
+
+    String RESPONSE_DTO = "new ai.recruit.testrecruit.dto.UserResponseDto(u.id, u.name, u.email, u.phoneNumber, "
+            + "u.address, u.password, u.dateOfBirth, u.role, u.version)";
+
+    @Query("select " + RESPONSE_DTO + " from User u where u.id = :id")
+    Optional<UserResponseDto> findResponseById(long id);
+
+    @Query("select " + RESPONSE_DTO + " from User u where u.company.idCompany = :companyId order by u.id")
+    List<UserResponseDto> findResponsesByCompanyId(long companyId);
+
+    @Query("select " + RESPONSE_DTO + " from User u where u.id in :ids")
+    List<UserResponseDto> findResponsesByIdIn(Collection<Long> ids);
+
+    @Query("select u.id as id, u.version as version from User u where u.id in :ids")
+    List<IdVersion> findVersionsByIdIn(Collection<Long> ids);
+
+    @Query("select u.company.idCompany as companyId, u.id as id, u.version as version from User u "
+            + "where u.company.idCompany in :companyIds")
+    List<MemberVersion> findMemberVersionsByCompanyIdIn(Collection<Long> companyIds);
+
+    @Query("select u.id from User u order by u.id desc")
+    List<Long> findRecentIds(Limit limit);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("select u.company.idCompany as companyId, u.role as role, count(u) as users from User u "
+            + "group by u.company.idCompany, u.role")
+    List<Headcount> countByCompanyAndRole();
+
+    @Query("select u.id from User u order by u.id")
+    List<Long> findAllIds();
+
+    List<User> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    @Query("select u from User u order by u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamAllByOrderByIdAsc();
 
-    boolean existsByEmail(String email);
+    @Query("select new ai.recruit.testrecruit.dto.UserTransferDto(u.id, c.idCompany, u.name, u.email, u.password, "
+            + "u.phoneNumber, u.address, u.dateOfBirth, u.role) from User u left join u.company c order by u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserTransferDto> streamTransferRecords();
 }
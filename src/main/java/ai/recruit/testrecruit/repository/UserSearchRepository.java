@@ -0,0 +1,17 @@
+package ai.recruit.testrecruit.repository;
+
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.entities.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    /**
+     * Selects matching users straight into response DTOs, without hydrating entities or their company.
+     */
+    List<UserResponseDto> findResponses(Specification<User> specification, Sort sort, Limit limit);
+}
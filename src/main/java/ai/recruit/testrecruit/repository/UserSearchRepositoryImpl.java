@@ -0,0 +1,42 @@
+package ai.recruit.testrecruit.repository;
+
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+@AllArgsConstructor
+class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UserResponseDto> findResponses(Specification<User> specification, Sort sort, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponseDto> query = cb.createQuery(UserResponseDto.class);
+        Root<User> user = query.from(User.class);
+        query.select(cb.construct(UserResponseDto.class, user.get("id"), user.get("name"), user.get("email"),
+                user.get("phoneNumber"), user.get("address"), user.get("password"), user.get("dateOfBirth"),
+                user.get("role"), user.get("version")));
+        Predicate predicate = specification == null ? null : specification.toPredicate(user, query, cb);
+        if (predicate != null)
+            query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(sort, user, cb));
+
+        TypedQuery<UserResponseDto> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited())
+            typedQuery.setMaxResults(limit.max());
+        return typedQuery.getResultList();
+    }
+}
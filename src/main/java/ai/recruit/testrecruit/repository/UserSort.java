@@ -0,0 +1,40 @@
+package ai.recruit.testrecruit.repository;
+
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.exception.ValidationException;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+
+/**
+ * Orderings accepted by the user search, each backed by an index and ending on the id so keyset paging is stable.
+ */
+public enum UserSort {
+    ID(Sort.by("id")),
+    NAME(Sort.by("nameLower", "id"));
+
+    private final Sort sort;
+
+    UserSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+
+    public String cursorAfter(UserResponseDto last) {
+        return this == NAME ? KeysetCursor.encode(last.getName(), last.getId()) : KeysetCursor.encode(last.getId());
+    }
+
+    public static UserSort from(String value) {
+        if (value == null || value.isBlank())
+            return ID;
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("sort must be one of id, name");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ai.recruit.testrecruit.repository;
+
+import ai.recruit.testrecruit.dto.UserFilterDto;
+import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Predicates for the user search. Each one maps onto {@code IX_USERS_COMPANY_ROLE} or
+ * {@code IX_USERS_NAME_LOWER}; a null argument contributes no predicate.
+ */
+public final class UserSpecifications {
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> matching(UserFilterDto filter) {
+        return Specification.where(inCompany(filter.getCompanyId()))
+                .and(hasRole(filter.getRole()))
+                .and(nameStartsWith(filter.getNamePrefix()));
+    }
+
+    public static Specification<User> inCompany(Long companyId) {
+        return companyId == null ? null
+                : (user, query, cb) -> cb.equal(user.get("company").get("idCompany"), companyId);
+    }
+
+    public static Specification<User> hasRole(Role role) {
+        return role == null ? null : (user, query, cb) -> cb.equal(user.get("role"), role);
+    }
+
+    /**
+     * Case-insensitive; LIKE wildcards in the prefix are matched literally.
+     */
+    public static Specification<User> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty())
+            return null;
+        String pattern = prefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (user, query, cb) -> cb.like(user.get("nameLower"), pattern, '\\');
+    }
+
+    /**
+     * Rows strictly after the cursor in {@code sort} order. Null names sort first, as they do in H2.
+     */
+    public static Specification<User> after(UserSort sort, String cursor) {
+        if (sort == UserSort.ID) {
+            long lastId = KeysetCursor.decode(cursor);
+            return (user, query, cb) -> cb.greaterThan(user.get("id"), lastId);
+        }
+        KeysetCursor.Position position = KeysetCursor.decodePosition(cursor);
+        if (position == null)
+            return null;
+        return (user, query, cb) -> {
+            Expression<String> name = user.get("nameLower");
+            Expression<Long> id = user.get("id");
+            if (position.key() == null)
+                return cb.or(cb.isNotNull(name), cb.and(cb.isNull(name), cb.greaterThan(id, position.id())));
+            Expression<String> key = cb.lower(cb.literal(position.key()));
+            return cb.or(cb.greaterThan(name, key), cb.and(cb.equal(name, key), cb.greaterThan(id, position.id())));
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package ai.recruit.testrecruit.security;
+
+import ai.recruit.testrecruit.config.PasswordHashingProperties;
+import ai.recruit.testrecruit.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a fixed pool with a bounded queue so hashing never happens on a thread
+ * that holds a database connection, and a burst of signups is shed with a 503 instead of
+ * piling up behind the pool.
+ */
+@Component
+@EnableConfigurationProperties(PasswordHashingProperties.class)
+public class PasswordHasher {
+
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer latency;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("password.hash.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("BCrypt jobs waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.latency = Timer.builder("password.hash.latency")
+                .description("Time from submission to a finished BCrypt hash")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected").register(meterRegistry);
+    }
+
+    public String hash(String password) {
+        return await(submit(password));
+    }
+
+    /**
+     * Hashes a batch a pool's width at a time, so one large request cannot fill the queue
+     * that single signups depend on.
+     */
+    public List<String> hashAll(List<String> passwords) {
+        List<String> hashes = new ArrayList<>(passwords.size());
+        int window = properties.getThreads();
+        for (int from = 0; from < passwords.size(); from += window) {
+            List<CompletableFuture<String>> chunk = passwords.subList(from, Math.min(from + window, passwords.size()))
+                    .stream()
+                    .map(this::submit)
+                    .toList();
+            chunk.forEach(future -> hashes.add(await(future)));
+        }
+        return hashes;
+    }
+
+    private CompletableFuture<String> submit(String password) {
+        long submitted = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                String hash = BCrypt.hashpw(password, BCrypt.gensalt(properties.getCost()));
+                latency.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return hash;
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw unavailable();
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw unavailable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException unavailable() {
+        return new ServiceUnavailableException("Password hashing is saturated, retry later",
+                properties.getRetryAfter().toSeconds());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
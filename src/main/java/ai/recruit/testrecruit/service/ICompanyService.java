@@ -1,13 +1,21 @@
 package ai.recruit.testrecruit.service;
 
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
 import ai.recruit.testrecruit.dto.CompanyRequestDto;
 import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.PageResponseDto;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public interface ICompanyService {
     CompanyResponseDto createCompany(CompanyRequestDto companyRequestDto);
-    CompanyResponseDto updateCompany(Long id, CompanyRequestDto companyRequestDto);
+    List<BatchItemResultDto<CompanyResponseDto>> createCompanies(List<CompanyRequestDto> companyRequestDtos);
+    CompanyResponseDto updateCompany(Long id, CompanyRequestDto companyRequestDto, Predicate<CompanyResponseDto> precondition);
     void deleteCompany(long id);
     CompanyResponseDto findCompanyById(long id);
     List<CompanyResponseDto> findAllCompanies();
+    List<CompanyResponseDto> findAllCompanySummaries();
+    PageResponseDto<CompanyResponseDto> findCompaniesPage(String cursor, int limit, boolean includeUsers);
+    void streamAllCompanies(boolean includeUsers, Consumer<CompanyResponseDto> consumer);
 }
@@ -1,58 +1,155 @@
 package ai.recruit.testrecruit.service;
+import ai.recruit.testrecruit.cache.CacheInvalidationBus;
+import ai.recruit.testrecruit.cache.CollectionCache;
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
 import ai.recruit.testrecruit.dto.CompanyRequestDto;
 import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.PageResponseDto;
 import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.events.ChangeFeed;
 import ai.recruit.testrecruit.exception.BusinessException;
 import ai.recruit.testrecruit.exception.NotFoundException;
+import ai.recruit.testrecruit.exception.PreconditionFailedException;
+import ai.recruit.testrecruit.exception.UniqueKeys;
+import ai.recruit.testrecruit.exception.ValidationException;
 import ai.recruit.testrecruit.mapper.CompanyRequestMapper;
 import ai.recruit.testrecruit.mapper.CompanyResponseMapper;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
 import ai.recruit.testrecruit.repository.CompanyRepository;
-import jakarta.transaction.Transactional;
+import ai.recruit.testrecruit.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
  @Service
  @AllArgsConstructor
  @Transactional
+ @Timed("app.service")
  public class ICompanyServiceImpl implements ICompanyService {
+     private static final int MAX_BATCH_SIZE = 1000;
+
      private CompanyRepository companyRepository;
+     private UserRepository userRepository;
      private CompanyResponseMapper companyResponseMapper;
      private CompanyRequestMapper companyRequestMapper;
+     private EntityManager entityManager;
+     private CollectionCache<CompanyResponseDto> companyListCache;
+     private ChangeFeed changeFeed;
+     private CacheInvalidationBus cacheInvalidations;
 
      @Override
      @CachePut(value = "companies", key = "#result.idCompany")
      public CompanyResponseDto createCompany(CompanyRequestDto companyRequestDto) {
-         if(companyRepository.existsByName(companyRequestDto.getName()))
-             throw new BusinessException("Name already exists");
-         if(companyRepository.existsByEmail(companyRequestDto.getEmail()))
-             throw new BusinessException("Mail already exists");
-
-         return companyResponseMapper.companyToCompanyResponseDto(
-                 companyRepository.save(companyRequestMapper.companieDtoToCompany(companyRequestDto))
+         CompanyResponseDto created = companyResponseMapper.companyToCompanyResponseDto(
+                 companyRepository.saveAndFlush(companyRequestMapper.companieDtoToCompany(companyRequestDto))
          );
+         companyListCache.invalidate();
+         cacheInvalidations.listChanged("companies");
+         changeFeed.created(ChangeFeed.COMPANY, created.getIdCompany());
+         return created;
+     }
+
+     @Override
+     public List<BatchItemResultDto<CompanyResponseDto>> createCompanies(List<CompanyRequestDto> companyRequestDtos) {
+         if (companyRequestDtos.size() > MAX_BATCH_SIZE)
+             throw new ValidationException("A batch holds at most " + MAX_BATCH_SIZE + " companies");
+         Set<String> names = new HashSet<>();
+         Set<String> emails = new HashSet<>();
+         companyRepository.findUniqueKeyConflicts(
+                 companyRequestDtos.stream().map(CompanyRequestDto::getName).filter(Objects::nonNull).distinct().toList(),
+                 companyRequestDtos.stream().map(CompanyRequestDto::getEmail).filter(Objects::nonNull).distinct().toList()
+         ).forEach(existing -> {
+             names.add(existing.getName());
+             emails.add(existing.getEmail());
+         });
+
+         List<BatchItemResultDto<CompanyResponseDto>> results = new ArrayList<>(companyRequestDtos.size());
+         List<Company> companies = new ArrayList<>();
+         List<Integer> indexes = new ArrayList<>();
+         for (int i = 0; i < companyRequestDtos.size(); i++) {
+             CompanyRequestDto companyRequestDto = companyRequestDtos.get(i);
+             if (companyRequestDto.getName() == null) {
+                 results.add(BatchItemResultDto.rejected(i, HttpStatus.BAD_REQUEST, "name is required"));
+                 continue;
+             }
+             if (names.contains(companyRequestDto.getName())) {
+                 results.add(BatchItemResultDto.rejected(i, HttpStatus.CONFLICT, "Name already exists"));
+                 continue;
+             }
+             if (companyRequestDto.getEmail() != null && emails.contains(companyRequestDto.getEmail())) {
+                 results.add(BatchItemResultDto.rejected(i, HttpStatus.CONFLICT, "Mail already exists"));
+                 continue;
+             }
+             names.add(companyRequestDto.getName());
+             if (companyRequestDto.getEmail() != null)
+                 emails.add(companyRequestDto.getEmail());
+             companies.add(companyRequestMapper.companieDtoToCompany(companyRequestDto));
+             indexes.add(i);
+             results.add(null);
+         }
+
+         List<Company> saved = companyRepository.saveAll(companies);
+         for (int i = 0; i < saved.size(); i++)
+             results.set(indexes.get(i), BatchItemResultDto.created(indexes.get(i),
+                     companyResponseMapper.companyToCompanyResponseDto(saved.get(i))));
+         if (!saved.isEmpty()) {
+             companyListCache.invalidate();
+             cacheInvalidations.listChanged("companies");
+         }
+         saved.forEach(company -> changeFeed.created(ChangeFeed.COMPANY, company.getIdCompany()));
+         return results;
      }
 
      @Override
      @CachePut(value = "companies", key = "#id")
-     public CompanyResponseDto updateCompany(Long id, CompanyRequestDto companyRequestDto) {
+     public CompanyResponseDto updateCompany(Long id, CompanyRequestDto companyRequestDto,
+                                             Predicate<CompanyResponseDto> precondition) {
          Company company = companyRepository.findById(id)
                  .orElseThrow(() -> new NotFoundException("Company not found with id: " + id));
-         if (companyRepository.existsByNameAndIdCompanyNot(companyRequestDto.getName(), id))
-             throw new BusinessException("Company name already exists");
-
-         if (companyRepository.existsByEmailAndIdCompanyNot(companyRequestDto.getEmail(), id))
-             throw new BusinessException("Company email already exists");
-
+         if (precondition != null && !precondition.test(companyResponseMapper.companyToCompanyResponseDto(company)))
+             throw new PreconditionFailedException("Company " + id + " has changed");
+         companyListCache.markWritten();
          company.setName(companyRequestDto.getName());
          company.setEmail(companyRequestDto.getEmail());
          company.setPhoneNumber(companyRequestDto.getPhoneNumber());
          company.setAddress(companyRequestDto.getAddress());
          company.setWebsite(companyRequestDto.getWebsite());
          company.setFoundedDate(companyRequestDto.getFoundedDate());
-         return companyResponseMapper.companyToCompanyResponseDto(companyRepository.save(company));
+         changeFeed.updated(ChangeFeed.COMPANY, id);
+         CompanyResponseDto updated = companyResponseMapper.companyToCompanyResponseDto(saveRenamed(company));
+         cacheInvalidations.updated("companies", id, updated.getVersion());
+         return updated;
+     }
+
+     /**
+      * Updates keep their own conflict messages, distinct from the create path's.
+      */
+     private Company saveRenamed(Company company) {
+         try {
+             return companyRepository.saveAndFlush(company);
+         } catch (DataIntegrityViolationException e) {
+             String constraint = UniqueKeys.violated(e);
+             if (Company.UK_NAME.equals(constraint))
+                 throw new BusinessException("Company name already exists");
+             if (Company.UK_EMAIL.equals(constraint))
+                 throw new BusinessException("Company email already exists");
+             throw e;
+         }
      }
 
      @Override
@@ -67,23 +164,67 @@ import java.util.List;
 
          CompanyResponseDto responseDto = companyResponseMapper.companyToCompanyResponseDto(company);
          companyRepository.delete(company);
+         companyListCache.invalidate();
+         cacheInvalidations.evicted("companies", id);
+         cacheInvalidations.listChanged("companies");
+         changeFeed.deleted(ChangeFeed.COMPANY, id);
      }
 
+     /**
+      * Concurrent misses on one id share a single load: with {@code sync} the cache computes the entry per key.
+      */
      @Override
-     @Cacheable(value = "companies", key = "#id")
+     @Cacheable(value = "companies", key = "#id", sync = true)
+     @Transactional(readOnly = true)
      public CompanyResponseDto findCompanyById(long id) {
-         Company company = companyRepository.findById(id)
+         CompanyResponseDto company = companyRepository.findResponseById(id)
                  .orElseThrow(() -> new NotFoundException("Company not found with id: " + id));
-
-         return companyResponseMapper.companyToCompanyResponseDto(company);
+         company.setUsers(userRepository.findResponsesByCompanyId(id));
+         return company;
      }
 
      @Override
-     @Cacheable(value = "companies")
+     @Transactional(readOnly = true)
      public List<CompanyResponseDto> findAllCompanies() {
-         List<Company> companies = companyRepository.findAll();
-         return companies.stream()
+         return companyListCache.get(companyRepository::findAllIds, ids -> companyRepository.findWithUsersByIdCompanyIn(ids).stream()
                  .map(companyResponseMapper::companyToCompanyResponseDto)
+                 .toList());
+     }
+
+     @Override
+     @Transactional(readOnly = true)
+     public List<CompanyResponseDto> findAllCompanySummaries() {
+         return companyRepository.findAllByOrderByIdCompanyAsc().stream()
+                 .map(companyResponseMapper::companyToCompanySummaryDto)
                  .toList();
      }
- }
\ No newline at end of file
+
+     @Override
+     @Transactional(readOnly = true)
+     public PageResponseDto<CompanyResponseDto> findCompaniesPage(String cursor, int limit, boolean includeUsers) {
+         KeysetCursor.checkLimit(limit);
+         List<Company> companies = companyRepository.findByIdCompanyGreaterThanOrderByIdCompanyAsc(
+                 KeysetCursor.decode(cursor), Limit.of(limit + 1));
+         boolean hasMore = companies.size() > limit;
+         List<CompanyResponseDto> items = companies.stream()
+                 .limit(limit)
+                 .map(includeUsers ? companyResponseMapper::companyToCompanyResponseDto
+                         : companyResponseMapper::companyToCompanySummaryDto)
+                 .toList();
+         String nextCursor = hasMore ? KeysetCursor.encode(items.get(items.size() - 1).getIdCompany()) : null;
+         return new PageResponseDto<>(items, nextCursor, hasMore);
+     }
+
+     @Override
+     @Transactional(readOnly = true)
+     public void streamAllCompanies(boolean includeUsers, Consumer<CompanyResponseDto> consumer) {
+         try (Stream<Company> companies = includeUsers ? companyRepository.streamAllWithUsers()
+                 : companyRepository.streamAllByOrderByIdCompanyAsc()) {
+             companies.forEach(company -> {
+                 consumer.accept(includeUsers ? companyResponseMapper.companyToCompanyResponseDto(company)
+                         : companyResponseMapper.companyToCompanySummaryDto(company));
+                 entityManager.detach(company);
+             });
+         }
+     }
+ }
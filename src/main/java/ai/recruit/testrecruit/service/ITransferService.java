@@ -0,0 +1,12 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.ImportProgressDto;
+import ai.recruit.testrecruit.dto.TransferRecordDto;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ITransferService {
+    void exportAll(Consumer<TransferRecordDto> consumer);
+    ImportProgressDto importAll(Iterator<TransferRecordDto> records, Consumer<ImportProgressDto> progress);
+}
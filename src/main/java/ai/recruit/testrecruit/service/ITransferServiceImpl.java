@@ -0,0 +1,225 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.cache.CacheInvalidationBus;
+import ai.recruit.testrecruit.cache.CollectionCache;
+import ai.recruit.testrecruit.config.TransferProperties;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.CompanyTransferDto;
+import ai.recruit.testrecruit.dto.ImportProgressDto;
+import ai.recruit.testrecruit.dto.TransferRecordDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.dto.UserTransferDto;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.events.ChangeFeed;
+import ai.recruit.testrecruit.exception.ValidationException;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.UserRepository;
+import ai.recruit.testrecruit.stats.HeadcountAggregate;
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Full dumps and restores. Export reads both tables through forward-only projections in one
+ * snapshot, so nothing but the current row is held; import commits every
+ * {@code app.transfer.batch-size} records in their own transaction, so a multi-GB upload
+ * holds one batch plus the source-to-new company id map.
+ */
+@Service
+@AllArgsConstructor
+@Timed("app.service")
+@EnableConfigurationProperties(TransferProperties.class)
+public class ITransferServiceImpl implements ITransferService {
+
+    private static final Pattern BCRYPT = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionCache<UserResponseDto> userListCache;
+    private final CollectionCache<CompanyResponseDto> companyListCache;
+    private final CacheInvalidationBus cacheInvalidations;
+    private final HeadcountAggregate headcounts;
+    private final ChangeFeed changeFeed;
+    private final TransferProperties properties;
+
+    /**
+     * Companies first, so an import meets every company before the users that belong to it.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportAll(Consumer<TransferRecordDto> consumer) {
+        try (Stream<CompanyTransferDto> companies = companyRepository.streamTransferRecords()) {
+            companies.forEach(consumer);
+        }
+        try (Stream<UserTransferDto> users = userRepository.streamTransferRecords()) {
+            users.forEach(consumer);
+        }
+    }
+
+    /**
+     * Reports after every committed batch. A batch the database refuses is rolled back and
+     * counted as rejected; an unreadable record ends the import after committing what was read before it.
+     */
+    @Override
+    public ImportProgressDto importAll(Iterator<TransferRecordDto> records, Consumer<ImportProgressDto> progress) {
+        Map<Long, Long> companyIds = new HashMap<>();
+        ImportProgressDto totals = new ImportProgressDto();
+        List<TransferRecordDto> batch = new ArrayList<>(properties.getBatchSize());
+        try {
+            while (records.hasNext()) {
+                batch.add(records.next());
+                if (batch.size() == properties.getBatchSize()) {
+                    progress.accept(commit(batch, companyIds, totals));
+                    batch.clear();
+                }
+            }
+        } catch (ValidationException e) {
+            totals.setError(e.getMessage());
+        }
+        if (!batch.isEmpty())
+            progress.accept(commit(batch, companyIds, totals));
+        totals.setDone(true);
+        totals.setRejections(null);
+        progress.accept(totals);
+        return totals;
+    }
+
+    private ImportProgressDto commit(List<TransferRecordDto> batch, Map<Long, Long> companyIds, ImportProgressDto totals) {
+        long first = totals.getRecords() + 1;
+        List<String> rejections = new ArrayList<>();
+        Map<Long, Long> imported = new HashMap<>();
+        int[] saved = new int[2];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                saved[0] = importCompanies(batch, first, imported, rejections);
+                saved[1] = importUsers(batch, first, companyIds, imported, rejections);
+            });
+            companyIds.putAll(imported);
+            totals.setCompanies(totals.getCompanies() + saved[0]);
+            totals.setUsers(totals.getUsers() + saved[1]);
+            totals.setRejected(totals.getRejected() + rejections.size());
+        } catch (DataAccessException e) {
+            rejections.clear();
+            rejections.add("Records " + first + "-" + (first + batch.size() - 1) + ": batch rolled back, "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            totals.setRejected(totals.getRejected() + batch.size());
+        }
+        totals.setRecords(totals.getRecords() + batch.size());
+        totals.setBatches(totals.getBatches() + 1);
+        totals.setRejections(rejections.size() > properties.getMaxRejectionsReported()
+                ? List.copyOf(rejections.subList(0, properties.getMaxRejectionsReported()))
+                : List.copyOf(rejections));
+        return totals;
+    }
+
+    private int importCompanies(List<TransferRecordDto> batch, long first, Map<Long, Long> imported,
+                                List<String> rejections) {
+        Set<String> names = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        companyRepository.findUniqueKeyConflicts(
+                batch.stream().filter(CompanyTransferDto.class::isInstance)
+                        .map(row -> ((CompanyTransferDto) row).getName()).filter(Objects::nonNull).distinct().toList(),
+                batch.stream().filter(CompanyTransferDto.class::isInstance)
+                        .map(row -> ((CompanyTransferDto) row).getEmail()).filter(Objects::nonNull).distinct().toList()
+        ).forEach(existing -> {
+            names.add(existing.getName());
+            emails.add(existing.getEmail());
+        });
+
+        List<Company> companies = new ArrayList<>();
+        List<Long> sourceIds = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!(batch.get(i) instanceof CompanyTransferDto row))
+                continue;
+            String rejection = row.getId() == null ? "id is required"
+                    : row.getName() == null ? "name is required"
+                    : !names.add(row.getName()) ? "Name already exists"
+                    : row.getEmail() != null && !emails.add(row.getEmail()) ? "Mail already exists"
+                    : null;
+            if (rejection != null) {
+                rejections.add("Record " + (first + i) + ": " + rejection);
+                continue;
+            }
+            companies.add(Company.builder().name(row.getName()).email(row.getEmail())
+                    .phoneNumber(row.getPhoneNumber()).address(row.getAddress()).website(row.getWebsite())
+                    .foundedDate(row.getFoundedDate()).users(new ArrayList<>()).build());
+            sourceIds.add(row.getId());
+        }
+        List<Company> saved = companyRepository.saveAll(companies);
+        for (int i = 0; i < saved.size(); i++) {
+            long id = saved.get(i).getIdCompany();
+            imported.put(sourceIds.get(i), id);
+            changeFeed.created(ChangeFeed.COMPANY, id);
+        }
+        if (!saved.isEmpty()) {
+            companyListCache.invalidate();
+            cacheInvalidations.listChanged("companies");
+        }
+        return saved.size();
+    }
+
+    private int importUsers(List<TransferRecordDto> batch, long first, Map<Long, Long> companyIds,
+                            Map<Long, Long> imported, List<String> rejections) {
+        Set<String> emails = new HashSet<>(userRepository.findExistingEmails(batch.stream()
+                .filter(UserTransferDto.class::isInstance)
+                .map(row -> ((UserTransferDto) row).getEmail()).filter(Objects::nonNull).distinct().toList()));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!(batch.get(i) instanceof UserTransferDto row))
+                continue;
+            Long companyId = row.getCompanyId() == null ? null
+                    : imported.getOrDefault(row.getCompanyId(), companyIds.get(row.getCompanyId()));
+            String rejection = row.getEmail() == null ? "email is required"
+                    : row.getCompanyId() == null ? "companyId is required"
+                    : companyId == null ? "Company " + row.getCompanyId() + " was not imported"
+                    : row.getPassword() == null || !BCRYPT.matcher(row.getPassword()).matches()
+                    ? "password must be a BCrypt hash"
+                    : !emails.add(row.getEmail()) ? "Email already exists"
+                    : null;
+            if (rejection != null) {
+                rejections.add("Record " + (first + i) + ": " + rejection);
+                continue;
+            }
+            users.add(User.builder().name(row.getName()).email(row.getEmail()).password(row.getPassword())
+                    .phoneNumber(row.getPhoneNumber()).address(row.getAddress()).dateOfBirth(row.getDateOfBirth())
+                    .role(row.getRole()).company(companyRepository.getReferenceById(companyId)).build());
+        }
+        List<User> saved = userRepository.saveAll(users);
+        if (!saved.isEmpty()) {
+            userListCache.invalidate();
+            cacheInvalidations.listChanged("users");
+        }
+        Set<Long> touchedCompanies = new HashSet<>();
+        for (User user : saved) {
+            long companyId = user.getCompany().getIdCompany();
+            if (touchedCompanies.add(companyId)) {
+                companyListCache.evict(companyId);
+                cacheInvalidations.evicted("companies", companyId);
+            }
+            headcounts.added(companyId, user.getRole());
+            changeFeed.created(ChangeFeed.USER, user.getId());
+        }
+        return saved.size();
+    }
+}
@@ -1,11 +1,23 @@
 package ai.recruit.testrecruit.service;
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
+import ai.recruit.testrecruit.dto.PageResponseDto;
+import ai.recruit.testrecruit.dto.UserFilterDto;
 import ai.recruit.testrecruit.dto.UserRequestDto;
 import ai.recruit.testrecruit.dto.UserResponseDto;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 public interface IUserService {
     public UserResponseDto createUser(UserRequestDto user );
-    public UserResponseDto updateUser(Long id,UserRequestDto user);
+    public List<BatchItemResultDto<UserResponseDto>> createUsers(List<UserRequestDto> users);
+    public UserResponseDto updateUser(Long id, UserRequestDto user, Predicate<UserResponseDto> precondition);
     public void deleteUser(long id);
     public UserResponseDto findUser(long id);
     public List<UserResponseDto> findAllUsers();
+    public PageResponseDto<UserResponseDto> findUsersPage(String cursor, int limit);
+    public List<UserResponseDto> findUsers(UserFilterDto filter);
+    public PageResponseDto<UserResponseDto> findUsersPage(UserFilterDto filter, String cursor, int limit);
+    public PageResponseDto<UserResponseDto> findCompanyUsersPage(long companyId, String cursor, int limit);
+    public void streamAllUsers(Consumer<UserResponseDto> consumer);
+    public void streamUsers(UserFilterDto filter, Consumer<UserResponseDto> consumer);
 }
@@ -1,62 +1,202 @@
 package ai.recruit.testrecruit.service;
 
+import ai.recruit.testrecruit.cache.CacheInvalidationBus;
+import ai.recruit.testrecruit.cache.CollectionCache;
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.PageResponseDto;
+import ai.recruit.testrecruit.dto.UserFilterDto;
 import ai.recruit.testrecruit.dto.UserRequestDto;
 import ai.recruit.testrecruit.dto.UserResponseDto;
 import ai.recruit.testrecruit.entities.Company;
 import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.events.ChangeFeed;
 import ai.recruit.testrecruit.exception.BusinessException;
 import ai.recruit.testrecruit.exception.NotFoundException;
+import ai.recruit.testrecruit.exception.PreconditionFailedException;
+import ai.recruit.testrecruit.exception.ValidationException;
 import ai.recruit.testrecruit.mapper.UserRequestMapper;
 import ai.recruit.testrecruit.mapper.UserResponseMapper;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
 import ai.recruit.testrecruit.repository.CompanyRepository;
 import ai.recruit.testrecruit.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import ai.recruit.testrecruit.repository.UserSort;
+import ai.recruit.testrecruit.repository.UserSpecifications;
+import ai.recruit.testrecruit.security.PasswordHasher;
+import ai.recruit.testrecruit.stats.HeadcountAggregate;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
-import org.mindrot.jbcrypt.BCrypt;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 @Service
 @AllArgsConstructor
 @Transactional
+@Timed("app.service")
 public class IUserServiceImpl implements IUserService {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final UserResponseMapper userResponseMapper;
     private final UserRequestMapper userRequestMapper;
+    private final EntityManager entityManager;
+    private final CollectionCache<UserResponseDto> userListCache;
+    private final CollectionCache<CompanyResponseDto> companyListCache;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final HeadcountAggregate headcounts;
+    private final ChangeFeed changeFeed;
+    private final CacheInvalidationBus cacheInvalidations;
 
+    /**
+     * Hashes before opening the transaction so no connection is held while BCrypt runs. The
+     * company and email are checked first, so a request bound to fail never takes a hashing
+     * slot; the unique constraint still settles a race on the email.
+     */
     @Override
     @CachePut(value = "users", key = "#result.id")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponseDto createUser(UserRequestDto userRequestDto) {
-        if (userRepository.existsByEmail(userRequestDto.getEmail()))
+        if (!companyRepository.existsById(userRequestDto.getCompanyId()))
+            throw new NotFoundException("Company not found with id: " + userRequestDto.getCompanyId());
+        if (userRequestDto.getEmail() != null
+                && !userRepository.findExistingEmails(List.of(userRequestDto.getEmail())).isEmpty())
             throw new BusinessException("Email already exists");
+        String passwordHash = passwordHasher.hash(userRequestDto.getPassword());
+        return transactionTemplate.execute(status -> {
+            Company company = companyRepository.findById(userRequestDto.getCompanyId())
+                    .orElseThrow(() -> new NotFoundException("Company not found with id: " + userRequestDto.getCompanyId()));
+
+            User user = userRequestMapper.userDtotoUser(userRequestDto);
+            user.setPassword(passwordHash);
+            user.setCompany(company);
+            UserResponseDto created = userResponseMapper.userToUserResponseDto(userRepository.saveAndFlush(user));
+            userListCache.invalidate();
+            cacheInvalidations.listChanged("users");
+            evictCompany(company.getIdCompany());
+            headcounts.added(company.getIdCompany(), created.getRole());
+            changeFeed.created(ChangeFeed.USER, created.getId());
+            return created;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BatchItemResultDto<UserResponseDto>> createUsers(List<UserRequestDto> userRequestDtos) {
+        if (userRequestDtos.size() > MAX_BATCH_SIZE)
+            throw new ValidationException("A batch holds at most " + MAX_BATCH_SIZE + " users");
+        Set<String> emails = new HashSet<>(userRepository.findExistingEmails(userRequestDtos.stream()
+                .map(UserRequestDto::getEmail).filter(Objects::nonNull).distinct().toList()));
+        Map<Long, Company> companies = companyRepository.findAllById(userRequestDtos.stream()
+                        .map(UserRequestDto::getCompanyId).filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Company::getIdCompany, Function.identity()));
+
+        List<BatchItemResultDto<UserResponseDto>> results = new ArrayList<>(userRequestDtos.size());
+        List<User> users = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < userRequestDtos.size(); i++) {
+            UserRequestDto userRequestDto = userRequestDtos.get(i);
+            if (userRequestDto.getEmail() == null) {
+                results.add(BatchItemResultDto.rejected(i, HttpStatus.BAD_REQUEST, "email is required"));
+                continue;
+            }
+            if (!emails.add(userRequestDto.getEmail())) {
+                results.add(BatchItemResultDto.rejected(i, HttpStatus.CONFLICT, "Email already exists"));
+                continue;
+            }
+            Company company = companies.get(userRequestDto.getCompanyId());
+            if (company == null) {
+                results.add(BatchItemResultDto.rejected(i, HttpStatus.NOT_FOUND,
+                        "Company not found with id: " + userRequestDto.getCompanyId()));
+                continue;
+            }
+            User user = userRequestMapper.userDtotoUser(userRequestDto);
+            user.setCompany(company);
+            users.add(user);
+            indexes.add(i);
+            results.add(null);
+        }
 
-        Company company = companyRepository.findById(userRequestDto.getCompanyId())
-                .orElseThrow(() -> new NotFoundException("Company not found with id: " + userRequestDto.getCompanyId()));
+        List<String> passwordHashes = passwordHasher.hashAll(indexes.stream()
+                .map(index -> userRequestDtos.get(index).getPassword())
+                .toList());
+        for (int i = 0; i < users.size(); i++)
+            users.get(i).setPassword(passwordHashes.get(i));
 
-        User user = userRequestMapper.userDtotoUser(userRequestDto);
-        user.setPassword(BCrypt.hashpw(userRequestDto.getPassword(),BCrypt.gensalt()));
-        user.setCompany(company);
-        return userResponseMapper.userToUserResponseDto(userRepository.save(user));
+        return transactionTemplate.execute(status -> {
+            List<User> saved = userRepository.saveAll(users);
+            for (int i = 0; i < saved.size(); i++)
+                results.set(indexes.get(i), BatchItemResultDto.created(indexes.get(i),
+                        userResponseMapper.userToUserResponseDto(saved.get(i))));
+            if (!saved.isEmpty()) {
+                userListCache.invalidate();
+                cacheInvalidations.listChanged("users");
+                saved.stream().map(user -> user.getCompany().getIdCompany()).distinct().forEach(this::evictCompany);
+                saved.forEach(user -> {
+                    headcounts.added(user.getCompany().getIdCompany(), user.getRole());
+                    changeFeed.created(ChangeFeed.USER, user.getId());
+                });
+            }
+            return results;
+        });
     }
+
+    /**
+     * The precondition is checked before hashing, so a stale {@code If-Match} never takes a BCrypt
+     * slot, and again inside the transaction against the row being written.
+     */
     @CachePut(value = "users", key = "#id")
     @Override
-    public UserResponseDto updateUser(Long id,UserRequestDto userRequestDto) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserResponseDto updateUser(Long id, UserRequestDto userRequestDto, Predicate<UserResponseDto> precondition) {
+        if (precondition != null)
+            checkPrecondition(userRepository.findResponseById(id)
+                    .orElseThrow(() -> new NotFoundException("User not found with id: " + id)), precondition);
+        String passwordHash = userRequestDto.getPassword() != null && !userRequestDto.getPassword().isEmpty()
+                ? passwordHasher.hash(userRequestDto.getPassword())
+                : null;
+        return transactionTemplate.execute(status -> applyUpdate(id, userRequestDto, passwordHash, precondition));
+    }
+
+    private UserResponseDto applyUpdate(Long id, UserRequestDto userRequestDto, String passwordHash,
+                                        Predicate<UserResponseDto> precondition) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+        if (precondition != null)
+            checkPrecondition(userResponseMapper.userToUserResponseDto(existingUser), precondition);
 
-        if (!existingUser.getEmail().equals(userRequestDto.getEmail()) &&
-                userRepository.existsByEmail(userRequestDto.getEmail()))
-            throw new BusinessException("Email already exists");
-
+        long previousCompanyId = existingUser.getCompany().getIdCompany();
+        Role previousRole = existingUser.getRole();
+        userListCache.markWritten();
+        evictCompany(previousCompanyId);
         if (userRequestDto.getCompanyId() != null &&
                 !(existingUser.getCompany().getIdCompany() ==(userRequestDto.getCompanyId()))) {
             Company newCompany = companyRepository.findById(userRequestDto.getCompanyId())
                     .orElseThrow(() -> new NotFoundException("Company not found with id: " + userRequestDto.getCompanyId()));
             existingUser.setCompany(newCompany);
+            evictCompany(newCompany.getIdCompany());
         }
         existingUser.setName(userRequestDto.getName());
         existingUser.setEmail(userRequestDto.getEmail());
@@ -65,10 +205,14 @@ public class IUserServiceImpl implements IUserService {
         existingUser.setDateOfBirth(userRequestDto.getDateOfBirth());
         existingUser.setRole(userRequestDto.getRole());
 
-        if (userRequestDto.getPassword() != null && !userRequestDto.getPassword().isEmpty())
-            existingUser.setPassword(BCrypt.hashpw(userRequestDto.getPassword(),BCrypt.gensalt()));
+        if (passwordHash != null)
+            existingUser.setPassword(passwordHash);
+        headcounts.moved(previousCompanyId, previousRole, existingUser.getCompany().getIdCompany(), existingUser.getRole());
+        changeFeed.updated(ChangeFeed.USER, id);
 
-        return userResponseMapper.userToUserResponseDto(userRepository.save(existingUser));
+        UserResponseDto updated = userResponseMapper.userToUserResponseDto(userRepository.saveAndFlush(existingUser));
+        cacheInvalidations.updated("users", id, updated.getVersion());
+        return updated;
     }
     @CacheEvict(value = "users", key = "#id")
     @Override
@@ -77,22 +221,121 @@ public class IUserServiceImpl implements IUserService {
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
 
         userRepository.delete(user);
+        userListCache.invalidate();
+        cacheInvalidations.evicted("users", id);
+        cacheInvalidations.listChanged("users");
+        evictCompany(user.getCompany().getIdCompany());
+        headcounts.removed(user.getCompany().getIdCompany(), user.getRole());
+        changeFeed.deleted(ChangeFeed.USER, id);
     }
 
     @Override
-    @Cacheable(value = "users", key = "#id")
+    @Cacheable(value = "users", key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public UserResponseDto findUser(long id) {
-        User user = userRepository.findById(id)
+        return userRepository.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
-
-        return userResponseMapper.userToUserResponseDto(user);
     }
 
     @Override
-    @Cacheable(value = "users")
+    @Transactional(readOnly = true)
     public List<UserResponseDto> findAllUsers() {
-        return userRepository.findAll().stream()
+        return userListCache.get(userRepository::findAllIds, ids -> userRepository.findAllById(ids).stream()
+                .map(userResponseMapper::userToUserResponseDto)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<UserResponseDto> findUsersPage(String cursor, int limit) {
+        KeysetCursor.checkLimit(limit);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), Limit.of(limit + 1));
+        boolean hasMore = users.size() > limit;
+        List<UserResponseDto> items = users.stream()
+                .limit(limit)
                 .map(userResponseMapper::userToUserResponseDto)
                 .toList();
+        String nextCursor = hasMore ? KeysetCursor.encode(items.get(items.size() - 1).getId()) : null;
+        return new PageResponseDto<>(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findUsers(UserFilterDto filter) {
+        return userRepository.findResponses(UserSpecifications.matching(filter),
+                UserSort.from(filter.getSort()).sort(), Limit.unlimited());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<UserResponseDto> findUsersPage(UserFilterDto filter, String cursor, int limit) {
+        KeysetCursor.checkLimit(limit);
+        UserSort sort = UserSort.from(filter.getSort());
+        List<UserResponseDto> users = userRepository.findResponses(
+                UserSpecifications.matching(filter).and(UserSpecifications.after(sort, cursor)),
+                sort.sort(), Limit.of(limit + 1));
+        boolean hasMore = users.size() > limit;
+        List<UserResponseDto> items = hasMore ? users.subList(0, limit) : users;
+        String nextCursor = hasMore ? sort.cursorAfter(items.get(items.size() - 1)) : null;
+        return new PageResponseDto<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Pages on the users table alone; the company row is only probed when the page comes back empty.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<UserResponseDto> findCompanyUsersPage(long companyId, String cursor, int limit) {
+        PageResponseDto<UserResponseDto> page = findUsersPage(UserFilterDto.builder().companyId(companyId).build(),
+                cursor, limit);
+        if (page.getItems().isEmpty() && !companyRepository.existsById(companyId))
+            throw new NotFoundException("Company not found with id: " + companyId);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserResponseDto> consumer) {
+        try (Stream<User> users = userRepository.streamAllByOrderByIdAsc()) {
+            users.forEach(user -> {
+                consumer.accept(userResponseMapper.userToUserResponseDto(user));
+                entityManager.detach(user);
+            });
+        }
+    }
+
+    /**
+     * Without criteria this is {@link #streamAllUsers}; with them it walks the same keyset pages
+     * as {@link #findUsersPage(UserFilterDto, String, int)}, so the filter and sort match the
+     * paged endpoint.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamUsers(UserFilterDto filter, Consumer<UserResponseDto> consumer) {
+        if (!filter.hasCriteria()) {
+            streamAllUsers(consumer);
+            return;
+        }
+        String cursor = null;
+        PageResponseDto<UserResponseDto> page;
+        do {
+            page = findUsersPage(filter, cursor, KeysetCursor.MAX_LIMIT);
+            page.getItems().forEach(consumer);
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+    }
+
+    private static void checkPrecondition(UserResponseDto current, Predicate<UserResponseDto> precondition) {
+        if (!precondition.test(current))
+            throw new PreconditionFailedException("User " + current.getId() + " is at version " + current.getVersion());
+    }
+
+    /**
+     * Company entries embed their users, so any user write makes the owning company stale,
+     * here and on every peer.
+     */
+    private void evictCompany(long companyId) {
+        companyListCache.evict(companyId);
+        cacheInvalidations.evicted("companies", companyId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package ai.recruit.testrecruit.stats;
+
+import ai.recruit.testrecruit.cache.AfterCommit;
+import ai.recruit.testrecruit.dto.StatsResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.repository.UserRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory headcount per company and per role. It is seeded from one GROUP BY before the
+ * web server starts and then kept current by the user write paths, which report each
+ * change here once it commits. Users without a role count towards the total and their
+ * company only.
+ */
+@Component
+public class HeadcountAggregate implements SmartInitializingSingleton {
+
+    private final UserRepository userRepository;
+    private final AtomicLong total = new AtomicLong();
+    private final ConcurrentMap<Long, Long> byCompany = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Role, Long> byRole = new ConcurrentHashMap<>();
+
+    public HeadcountAggregate(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Replaces the counts with a fresh recount; deltas committing meanwhile would be lost, so only
+     * call this while writes are quiet.
+     */
+    public synchronized void rebuild() {
+        List<UserRepository.Headcount> rows = userRepository.countByCompanyAndRole();
+        total.set(0);
+        byCompany.clear();
+        byRole.clear();
+        rows.forEach(row -> apply(row.getCompanyId(), row.getRole(), row.getUsers()));
+    }
+
+    public void added(long companyId, Role role) {
+        AfterCommit.run(() -> apply(companyId, role, 1));
+    }
+
+    public void removed(long companyId, Role role) {
+        AfterCommit.run(() -> apply(companyId, role, -1));
+    }
+
+    public void moved(long fromCompanyId, Role fromRole, long toCompanyId, Role toRole) {
+        if (fromCompanyId == toCompanyId && fromRole == toRole)
+            return;
+        AfterCommit.run(() -> {
+            apply(fromCompanyId, fromRole, -1);
+            apply(toCompanyId, toRole, 1);
+        });
+    }
+
+    public StatsResponseDto snapshot() {
+        Map<Role, Long> roles = new EnumMap<>(Role.class);
+        roles.putAll(byRole);
+        return new StatsResponseDto(total.get(), new TreeMap<>(byCompany), roles);
+    }
+
+    private void apply(Long companyId, Role role, long delta) {
+        total.addAndGet(delta);
+        if (companyId != null)
+            byCompany.merge(companyId, delta, HeadcountAggregate::sum);
+        if (role != null)
+            byRole.merge(role, delta, HeadcountAggregate::sum);
+    }
+
+    /**
+     * Returning null drops the key, so a company or role that reaches zero disappears from the maps.
+     */
+    private static Long sum(Long current, Long delta) {
+        long next = current + delta;
+        return next == 0 ? null : next;
+    }
+}
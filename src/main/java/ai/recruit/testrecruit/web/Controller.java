@@ -1,12 +1,33 @@
 package ai.recruit.testrecruit.web;
 import ai.recruit.testrecruit.dto.*;
+import ai.recruit.testrecruit.events.ChangeFeed;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
 import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.ITransferService;
 import ai.recruit.testrecruit.service.IUserService;
+import ai.recruit.testrecruit.stats.HeadcountAggregate;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 @RestController
 @RequestMapping("/api/v1")
 @AllArgsConstructor
@@ -15,26 +36,69 @@ public class Controller {
 
     private final ICompanyService companyService;
     private final IUserService userService;
+    private final ObjectMapper objectMapper;
+    private final HeadcountAggregate headcounts;
+    private final ChangeFeed changeFeed;
+    private final ITransferService transferService;
+    private final TransferCodec transferCodec;
+
+    private static final String NDJSON = "application/x-ndjson";
 
     @PostMapping("/companies")
     public ResponseEntity<CompanyResponseDto> createCompany(@RequestBody CompanyRequestDto companyRequestDto) {
-        return new ResponseEntity<>(companyService.createCompany(companyRequestDto), HttpStatus.CREATED);
+        CompanyResponseDto company = companyService.createCompany(companyRequestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(company)).body(company);
+    }
+
+    @PostMapping("/companies:batch")
+    public ResponseEntity<List<BatchItemResultDto<CompanyResponseDto>>> createCompanies(
+            @RequestBody List<CompanyRequestDto> companyRequestDtos) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(companyService.createCompanies(companyRequestDtos));
     }
 
     @PutMapping("/companies/{id}")
     public ResponseEntity<CompanyResponseDto> updateCompany(@PathVariable Long id,
-                                                            @RequestBody CompanyRequestDto companyRequestDto) {
-        return ResponseEntity.ok(companyService.updateCompany(id, companyRequestDto));
+                                                            @RequestBody CompanyRequestDto companyRequestDto,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CompanyResponseDto company = companyService.updateCompany(id, companyRequestDto, ETags.ifMatchCompany(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(company)).body(company);
+    }
+
+    @GetMapping("/companies/{id}/users")
+    public ResponseEntity<PageResponseDto<UserResponseDto>> findCompanyUsers(
+            @PathVariable long id, @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(userService.findCompanyUsersPage(id, cursor, limit));
     }
 
     @GetMapping("/companies/{id}")
-    public ResponseEntity<CompanyResponseDto> findCompanyById(@PathVariable long id) {
-        return ResponseEntity.ok(companyService.findCompanyById(id));
+    public ResponseEntity<CompanyResponseDto> findCompanyById(@PathVariable long id, WebRequest request) {
+        CompanyResponseDto company = companyService.findCompanyById(id);
+        String eTag = ETags.of(company);
+        if (request.checkNotModified(eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        return ResponseEntity.ok().eTag(eTag).body(company);
     }
 
     @GetMapping("/companies")
-    public ResponseEntity<List<CompanyResponseDto>> findAllCompanies() {
-        return ResponseEntity.ok(companyService.findAllCompanies());
+    public ResponseEntity<List<CompanyResponseDto>> findAllCompanies(@RequestParam(required = false) List<String> include) {
+        return ResponseEntity.ok(includesUsers(include)
+                ? companyService.findAllCompanies()
+                : companyService.findAllCompanySummaries());
+    }
+
+    @GetMapping(value = "/companies", params = "limit")
+    public ResponseEntity<PageResponseDto<CompanyResponseDto>> findCompaniesPage(
+            @RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<String> include) {
+        return ResponseEntity.ok(companyService.findCompaniesPage(cursor, limit, includesUsers(include)));
+    }
+
+    @GetMapping(value = "/companies", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCompanies(@RequestParam(required = false) List<String> include) {
+        boolean includeUsers = includesUsers(include);
+        return ResponseEntity.ok(out -> writeNdjson(out,
+                (Consumer<CompanyResponseDto> sink) -> companyService.streamAllCompanies(includeUsers, sink)));
     }
 
     @DeleteMapping("/companies/{id}")
@@ -45,22 +109,48 @@ public class Controller {
 
     @PostMapping("/users")
     public ResponseEntity<UserResponseDto> createUser(@RequestBody UserRequestDto userRequestDto) {
-        return new ResponseEntity<>(userService.createUser(userRequestDto), HttpStatus.CREATED);
+        UserResponseDto user = userService.createUser(userRequestDto);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(user)).body(user);
+    }
+
+    @PostMapping("/users:batch")
+    public ResponseEntity<List<BatchItemResultDto<UserResponseDto>>> createUsers(@RequestBody List<UserRequestDto> userRequestDtos) {
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(userService.createUsers(userRequestDtos));
     }
 
     @PutMapping("/users/{id}")
-    public ResponseEntity<UserResponseDto> updateUser(@PathVariable Long id, @RequestBody UserRequestDto userRequestDto) {
-        return ResponseEntity.ok(userService.updateUser(id, userRequestDto));
+    public ResponseEntity<UserResponseDto> updateUser(@PathVariable Long id, @RequestBody UserRequestDto userRequestDto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDto user = userService.updateUser(id, userRequestDto, ETags.ifMatchUser(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(user)).body(user);
     }
 
     @GetMapping("/users/{id}")
-    public ResponseEntity<UserResponseDto> findUser(@PathVariable long id) {
-        return ResponseEntity.ok(userService.findUser(id));
+    public ResponseEntity<UserResponseDto> findUser(@PathVariable long id, WebRequest request) {
+        UserResponseDto user = userService.findUser(id);
+        String eTag = ETags.of(user);
+        if (request.checkNotModified(eTag))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        return ResponseEntity.ok().eTag(eTag).body(user);
     }
 
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponseDto>> findAllUsers() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    public ResponseEntity<List<UserResponseDto>> findAllUsers(UserFilterDto filter) {
+        return ResponseEntity.ok(filter.hasCriteria() ? userService.findUsers(filter) : userService.findAllUsers());
+    }
+
+    @GetMapping(value = "/users", params = "limit")
+    public ResponseEntity<PageResponseDto<UserResponseDto>> findUsersPage(
+            @RequestParam int limit, @RequestParam(required = false) String cursor, UserFilterDto filter) {
+        return ResponseEntity.ok(filter.hasCriteria()
+                ? userService.findUsersPage(filter, cursor, limit)
+                : userService.findUsersPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/users", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamUsers(UserFilterDto filter) {
+        return ResponseEntity.ok(out -> writeNdjson(out,
+                (Consumer<UserResponseDto> sink) -> userService.streamUsers(filter, sink)));
     }
 
     @DeleteMapping("/users/{id}")
@@ -68,4 +158,81 @@ public class Controller {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/stats")
+    public ResponseEntity<StatsResponseDto> stats() {
+        return ResponseEntity.ok(headcounts.snapshot());
+    }
+
+    /**
+     * Server-Sent Events for every committed create, update and delete; reconnecting clients resume
+     * from {@code Last-Event-ID}.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Full dump of companies then users, as NDJSON or, with {@code Accept: text/csv}, CSV. Rows are
+     * written as the forward-only cursor yields them, with chunked transfer.
+     */
+    @GetMapping(value = "/export", produces = {NDJSON, TransferCodec.CSV})
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String format = accept != null && accept.contains(TransferCodec.CSV) && !accept.contains(NDJSON)
+                ? TransferCodec.CSV : NDJSON;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=export." + (format.equals(NDJSON) ? "ndjson" : "csv"))
+                .body(out -> transferCodec.write(format, out, transferService::exportAll));
+    }
+
+    /**
+     * Loads an export produced by {@code GET /export}, parsing the body as it arrives. The response is
+     * NDJSON with one progress line per committed batch and a final line with {@code "done":true}.
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON, TransferCodec.CSV}, produces = NDJSON)
+    public void importRecords(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body,
+                              HttpServletResponse response) throws IOException {
+        String format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TransferCodec.CSV))
+                ? TransferCodec.CSV : NDJSON;
+        Iterator<TransferRecordDto> records = transferCodec.read(format, body);
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        transferService.importAll(records, progress -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static boolean includesUsers(List<String> include) {
+        return include != null && include.contains("users");
+    }
+
+    /**
+     * Writes one JSON document per line straight to the response, so only the row
+     * currently being serialized is held in memory.
+     */
+    private <T> void writeNdjson(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            source.accept(item -> {
+                try {
+                    writer.writeValue(generator, item);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import org.springframework.http.ETag;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Strong entity tags derived from the {@code @Version} columns. A company representation
+ * embeds its users, so its tag also folds in each user's id and version.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(UserResponseDto user) {
+        return "\"u" + user.getId() + "-" + user.getVersion() + "\"";
+    }
+
+    static String of(CompanyResponseDto company) {
+        return "\"c" + company.getIdCompany() + "-" + company.getVersion() + "-" + usersHash(company.getUsers()) + "\"";
+    }
+
+    static Predicate<UserResponseDto> ifMatchUser(String ifMatch) {
+        return ETags.<UserResponseDto>ifMatch(ifMatch, ETags::of);
+    }
+
+    static Predicate<CompanyResponseDto> ifMatchCompany(String ifMatch) {
+        return ETags.<CompanyResponseDto>ifMatch(ifMatch, ETags::of);
+    }
+
+    /**
+     * Tests the current representation against an {@code If-Match} list with the strong
+     * comparison the header requires, so weak tags never match. Returns null when the header
+     * is absent or {@code *}; the update then only needs the entity to exist.
+     */
+    private static <T> Predicate<T> ifMatch(String ifMatch, Function<T, String> tagger) {
+        if (ifMatch == null || ifMatch.isBlank())
+            return null;
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard))
+            return null;
+        return current -> {
+            ETag tag = ETag.create(tagger.apply(current));
+            return tags.stream().anyMatch(candidate -> tag.compare(candidate, true));
+        };
+    }
+
+    private static String usersHash(List<UserResponseDto> users) {
+        if (users == null)
+            return "0";
+        long hash = 1;
+        for (UserResponseDto user : users.stream().sorted(Comparator.comparingLong(UserResponseDto::getId)).toList())
+            hash = 31 * (31 * hash + user.getId()) + user.getVersion();
+        return Long.toHexString(hash);
+    }
+}
@@ -0,0 +1,202 @@
+package ai.recruit.testrecruit.web;
+import ai.recruit.testrecruit.config.ReactiveApiProperties;
+import ai.recruit.testrecruit.dto.*;
+import ai.recruit.testrecruit.pagination.KeysetCursor;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import ai.recruit.testrecruit.stats.HeadcountAggregate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The v1 user and company operations with Reactor return types. Service calls run on the
+ * bounded {@code jpaScheduler}, so a request waiting on the database holds a scheduler
+ * thread and a connection but no servlet thread.
+ * <p>
+ * Lists are produced one keyset page at a time as the client reads them: with
+ * {@code Accept: application/x-ndjson} or {@code text/event-stream} the next page is only
+ * queried once the previous one has been written, so a slow reader holds back the query
+ * rather than the heap. Plain JSON collects the stream into one array.
+ * <p>
+ * Bulk export and import stay on v1 only: they already stream request and response bodies
+ * through the servlet streams with their own batching, and have no per-item result to map.
+ */
+@RestController
+@RequestMapping("/api/v2")
+@CrossOrigin("*")
+public class ReactiveController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ICompanyService companyService;
+    private final IUserService userService;
+    private final HeadcountAggregate headcounts;
+    private final Scheduler jpaScheduler;
+    private final int pageSize;
+
+    private record Cursor(String value, boolean last) {
+    }
+
+    public ReactiveController(ICompanyService companyService, IUserService userService, HeadcountAggregate headcounts,
+                              @Qualifier("jpaScheduler") Scheduler jpaScheduler, ReactiveApiProperties properties) {
+        this.companyService = companyService;
+        this.userService = userService;
+        this.headcounts = headcounts;
+        this.jpaScheduler = jpaScheduler;
+        this.pageSize = properties.getPageSize();
+    }
+
+    @PostMapping("/companies")
+    public Mono<ResponseEntity<CompanyResponseDto>> createCompany(@RequestBody CompanyRequestDto companyRequestDto) {
+        return call(() -> companyService.createCompany(companyRequestDto))
+                .map(company -> ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(company)).body(company));
+    }
+
+    @PostMapping("/companies:batch")
+    public Mono<ResponseEntity<List<BatchItemResultDto<CompanyResponseDto>>>> createCompanies(
+            @RequestBody List<CompanyRequestDto> companyRequestDtos) {
+        return call(() -> companyService.createCompanies(companyRequestDtos))
+                .map(results -> ResponseEntity.status(HttpStatus.MULTI_STATUS).body(results));
+    }
+
+    @PutMapping("/companies/{id}")
+    public Mono<ResponseEntity<CompanyResponseDto>> updateCompany(@PathVariable Long id,
+                                                                  @RequestBody CompanyRequestDto companyRequestDto,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Predicate<CompanyResponseDto> precondition = ETags.ifMatchCompany(ifMatch);
+        return call(() -> companyService.updateCompany(id, companyRequestDto, precondition))
+                .map(company -> ResponseEntity.ok().eTag(ETags.of(company)).body(company));
+    }
+
+    @GetMapping("/companies/{id}")
+    public Mono<ResponseEntity<CompanyResponseDto>> findCompanyById(@PathVariable long id) {
+        return call(() -> companyService.findCompanyById(id)).map(company -> tagged(company, ETags.of(company)));
+    }
+
+    @GetMapping("/companies/{id}/users")
+    public Mono<PageResponseDto<UserResponseDto>> findCompanyUsers(
+            @PathVariable long id, @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) String cursor) {
+        return call(() -> userService.findCompanyUsersPage(id, cursor, limit));
+    }
+
+    @GetMapping(value = "/companies", produces = {MediaType.APPLICATION_JSON_VALUE, NDJSON, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<CompanyResponseDto> findAllCompanies(@RequestParam(required = false) List<String> include) {
+        boolean includeUsers = include != null && include.contains("users");
+        return stream((cursor, limit) -> companyService.findCompaniesPage(cursor, limit, includeUsers));
+    }
+
+    @GetMapping(value = "/companies", params = "limit")
+    public Mono<PageResponseDto<CompanyResponseDto>> findCompaniesPage(
+            @RequestParam int limit, @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) List<String> include) {
+        boolean includeUsers = include != null && include.contains("users");
+        return call(() -> companyService.findCompaniesPage(cursor, limit, includeUsers));
+    }
+
+    @DeleteMapping("/companies/{id}")
+    public Mono<ResponseEntity<Void>> deleteCompany(@PathVariable Long id) {
+        return call(() -> {
+            companyService.deleteCompany(id);
+            return ResponseEntity.noContent().<Void>build();
+        });
+    }
+
+    @PostMapping("/users")
+    public Mono<ResponseEntity<UserResponseDto>> createUser(@RequestBody UserRequestDto userRequestDto) {
+        return call(() -> userService.createUser(userRequestDto))
+                .map(user -> ResponseEntity.status(HttpStatus.CREATED).eTag(ETags.of(user)).body(user));
+    }
+
+    @PostMapping("/users:batch")
+    public Mono<ResponseEntity<List<BatchItemResultDto<UserResponseDto>>>> createUsers(
+            @RequestBody List<UserRequestDto> userRequestDtos) {
+        return call(() -> userService.createUsers(userRequestDtos))
+                .map(results -> ResponseEntity.status(HttpStatus.MULTI_STATUS).body(results));
+    }
+
+    @PutMapping("/users/{id}")
+    public Mono<ResponseEntity<UserResponseDto>> updateUser(@PathVariable Long id, @RequestBody UserRequestDto userRequestDto,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Predicate<UserResponseDto> precondition = ETags.ifMatchUser(ifMatch);
+        return call(() -> userService.updateUser(id, userRequestDto, precondition))
+                .map(user -> ResponseEntity.ok().eTag(ETags.of(user)).body(user));
+    }
+
+    @GetMapping("/users/{id}")
+    public Mono<ResponseEntity<UserResponseDto>> findUser(@PathVariable long id) {
+        return call(() -> userService.findUser(id)).map(user -> tagged(user, ETags.of(user)));
+    }
+
+    @GetMapping(value = "/users", produces = {MediaType.APPLICATION_JSON_VALUE, NDJSON, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<UserResponseDto> findAllUsers(UserFilterDto filter) {
+        return stream((cursor, limit) -> filter.hasCriteria()
+                ? userService.findUsersPage(filter, cursor, limit)
+                : userService.findUsersPage(cursor, limit));
+    }
+
+    @GetMapping(value = "/users", params = "limit")
+    public Mono<PageResponseDto<UserResponseDto>> findUsersPage(
+            @RequestParam int limit, @RequestParam(required = false) String cursor, UserFilterDto filter) {
+        return call(() -> filter.hasCriteria()
+                ? userService.findUsersPage(filter, cursor, limit)
+                : userService.findUsersPage(cursor, limit));
+    }
+
+    @DeleteMapping("/users/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        return call(() -> {
+            userService.deleteUser(id);
+            return ResponseEntity.noContent().<Void>build();
+        });
+    }
+
+    /** Served from memory, so it skips the scheduler hop. */
+    @GetMapping("/stats")
+    public Mono<StatsResponseDto> stats() {
+        return Mono.fromSupplier(headcounts::snapshot);
+    }
+
+    private <T> Mono<T> call(Callable<T> serviceCall) {
+        return Mono.fromCallable(serviceCall).subscribeOn(jpaScheduler);
+    }
+
+    /**
+     * Pulls one page per downstream demand; {@code flatMapIterable} with a prefetch of one
+     * keeps at most a single page ahead of what has been written.
+     */
+    private <T> Flux<T> stream(BiFunction<String, Integer, PageResponseDto<T>> fetch) {
+        return Flux.<List<T>, Cursor>generate(() -> new Cursor(null, false), (cursor, sink) -> {
+                    if (cursor.last()) {
+                        sink.complete();
+                        return cursor;
+                    }
+                    PageResponseDto<T> page = fetch.apply(cursor.value(), pageSize);
+                    sink.next(page.getItems());
+                    return new Cursor(page.getNextCursor(), !page.isHasMore());
+                })
+                .flatMapIterable(Function.identity(), 1)
+                .subscribeOn(jpaScheduler);
+    }
+
+    /**
+     * If-None-Match is evaluated when the entity is written after the async dispatch, by the
+     * same {@code checkNotModified} that v1 calls, so weak and listed tags behave alike.
+     */
+    private static <T> ResponseEntity<T> tagged(T body, String eTag) {
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+}
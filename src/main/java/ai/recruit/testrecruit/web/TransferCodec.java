@@ -0,0 +1,154 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.TransferRecordDto;
+import ai.recruit.testrecruit.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads and writes {@link TransferRecordDto} streams one record at a time. NDJSON carries
+ * the {@code type} discriminator inline; CSV uses one header with the union of company and
+ * user columns, leaving the other type's cells empty.
+ */
+@Component
+class TransferCodec {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    private static final CsvSchema COLUMNS = CsvSchema.builder()
+            .addColumn("type").addColumn("id").addColumn("companyId").addColumn("name").addColumn("email")
+            .addColumn("password").addColumn("phoneNumber").addColumn("address").addColumn("website")
+            .addColumn("foundedDate").addColumn("dateOfBirth").addColumn("role")
+            .setUseHeader(true)
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    TransferCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Runs {@code source} with a sink that writes each record as it arrives; the sink never
+     * flushes, so the servlet buffer decides the chunk size.
+     */
+    void write(String format, OutputStream out, Consumer<Consumer<TransferRecordDto>> source) throws IOException {
+        try {
+            if (CSV.equals(format))
+                writeCsv(out, source);
+            else
+                writeNdjson(out, source);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCsv(OutputStream out, Consumer<Consumer<TransferRecordDto>> source) throws IOException {
+        try (SequenceWriter writer = csvMapper.writer(COLUMNS)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .writeValues(out)) {
+            source.accept(unchecked(record -> writer.write(objectMapper.convertValue(record, Map.class))));
+        }
+    }
+
+    private void writeNdjson(OutputStream out, Consumer<Consumer<TransferRecordDto>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(TransferRecordDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            source.accept(unchecked(record -> {
+                writer.writeValue(generator, record);
+                generator.writeRaw('\n');
+            }));
+        }
+    }
+
+    /**
+     * Parses lazily; a malformed record surfaces as a {@link ValidationException} naming its position.
+     */
+    Iterator<TransferRecordDto> read(String format, InputStream in) throws IOException {
+        if (CSV.equals(format)) {
+            MappingIterator<Map<String, String>> rows = csvMapper.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(in);
+            return new Records<>(rows, row -> {
+                Map<String, String> present = new LinkedHashMap<>();
+                row.forEach((column, value) -> {
+                    if (value != null && !value.isEmpty())
+                        present.put(column, value);
+                });
+                return objectMapper.convertValue(present, TransferRecordDto.class);
+            });
+        }
+        MappingIterator<TransferRecordDto> records = objectMapper.readerFor(TransferRecordDto.class).readValues(in);
+        return new Records<>(records, record -> record);
+    }
+
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+
+    private static <T> Consumer<T> unchecked(IoConsumer<T> consumer) {
+        return value -> {
+            try {
+                consumer.accept(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static final class Records<T> implements Iterator<TransferRecordDto> {
+        private final MappingIterator<T> source;
+        private final Function<T, TransferRecordDto> mapper;
+        private long position;
+
+        Records(MappingIterator<T> source, Function<T, TransferRecordDto> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return source.hasNextValue();
+            } catch (IOException | RuntimeException e) {
+                throw malformed(position + 1, e);
+            }
+        }
+
+        @Override
+        public TransferRecordDto next() {
+            position++;
+            try {
+                return mapper.apply(source.nextValue());
+            } catch (IOException | RuntimeException e) {
+                throw malformed(position, e);
+            }
+        }
+
+        private static ValidationException malformed(long position, Exception e) {
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage().lines().findFirst().orElse("");
+            return new ValidationException("Record " + position + " could not be read: " + message);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+-- Schema previously generated by ddl-auto=create-drop; keep in step with the entities.
+create sequence COMPANIES_SEQ start with 1 increment by 50;
+create sequence USERS_SEQ start with 1 increment by 50;
+
+create table COMPANIES (
+    id_company bigint not null,
+    address varchar(255),
+    email varchar(255),
+    founded_date date,
+    name varchar(255),
+    phone_number varchar(255),
+    version bigint not null,
+    website varchar(255),
+    primary key (id_company),
+    constraint UK_COMPANIES_NAME unique (name),
+    constraint UK_COMPANIES_EMAIL unique (email)
+);
+
+create table USERS (
+    id bigint not null,
+    address varchar(255),
+    company_id bigint,
+    date_of_birth date,
+    email varchar(255),
+    name varchar(255),
+    name_lower varchar(255) generated always as (lower(name)),
+    password varchar(255),
+    phone_number varchar(255),
+    role enum ('CEO','CTO','CFO','MANAGER','TEAM_LEAD','SOFTWARE_ENGINEER','HR'),
+    version bigint not null,
+    primary key (id),
+    constraint UK_USERS_EMAIL unique (email),
+    constraint FK_USERS_COMPANY foreign key (company_id) references COMPANIES (id_company)
+);
+
+create index IX_USERS_COMPANY_ROLE on USERS (company_id, role);
+create index IX_USERS_NAME_LOWER on USERS (name_lower);
@@ -0,0 +1,10 @@
+-- Shared by replicas when app.cache.coherence.transport=jdbc; rows are pruned after the retention.
+create table CACHE_INVALIDATION (
+    id bigint generated by default as identity primary key,
+    origin varchar(36) not null,
+    kind varchar(16) not null,
+    cache_name varchar(64) not null,
+    entry_id bigint not null,
+    entry_version bigint not null,
+    created_at timestamp not null
+);
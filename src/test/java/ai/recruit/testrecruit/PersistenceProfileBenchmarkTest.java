@@ -0,0 +1,125 @@
+package ai.recruit.testrecruit;
+
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.entities.User;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Startup time and write throughput of the file-backed {@code prod} profile against the
+ * in-memory default, on {@code persistence.users} (1M by default) seeded users. The
+ * in-memory database loses its data on every restart, so its startup includes reseeding.
+ * Run with {@code mvn test -Pbenchmark -Dtest=PersistenceProfileBenchmarkTest}.
+ */
+@Tag("benchmark")
+class PersistenceProfileBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("persistence.users", 1_000_000);
+    private static final int COMPANIES = 1_000;
+    private static final int SEED_BATCH = 5_000;
+    private static final int WRITES = 20_000;
+    private static final String HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3XQn6j1G3w3zWz5u0QKk5nS";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fileBackedProfileRestartsWithoutReseeding() {
+        String[] prod = {"--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("bench") + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--app.cache.warm-up.snapshot=" + directory.resolve("cache.smile")};
+        try (ConfigurableApplicationContext context = start(prod)) {
+            seed(context);
+        }
+
+        long start = System.nanoTime();
+        ConfigurableApplicationContext restarted = start(prod);
+        long prodStartup = System.nanoTime() - start;
+        double prodWrites;
+        try (restarted) {
+            assertEquals(USERS, restarted.getBean(UserRepository.class).count());
+            prodWrites = writeThroughput(restarted);
+        }
+
+        start = System.nanoTime();
+        ConfigurableApplicationContext memory = start();
+        double memoryWrites;
+        try (memory) {
+            seed(memory);
+            long memoryStartup = System.nanoTime() - start;
+            memoryWrites = writeThroughput(memory);
+            System.out.printf("users=%d startup prod=%dms memory+reseed=%dms writes prod=%.0f/s memory=%.0f/s%n",
+                    USERS, prodStartup / 1_000_000, memoryStartup / 1_000_000, prodWrites, memoryWrites);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(TestRecruitApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "logging.level.ai.recruit.testrecruit=WARN")
+                .run(args);
+    }
+
+    /**
+     * Bulk-loads through JDBC, since going through the services would measure BCrypt rather than the database.
+     */
+    private static void seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> companies = new ArrayList<>(COMPANIES);
+        for (long id = 1; id <= COMPANIES; id++)
+            companies.add(new Object[]{id, "company-" + id, "company" + id + "@seed.test"});
+        jdbc.batchUpdate("insert into COMPANIES (id_company, name, email, version) values (?, ?, ?, 0)", companies);
+
+        Role[] roles = Role.values();
+        List<Object[]> users = new ArrayList<>(SEED_BATCH);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user-" + id, "user" + id + "@seed.test", HASH,
+                    Date.valueOf(LocalDate.of(1990, 1, 1)), roles[(int) (id % roles.length)].name(), id % COMPANIES + 1});
+            if (users.size() == SEED_BATCH || id == USERS) {
+                jdbc.batchUpdate("insert into USERS (id, name, email, password, date_of_birth, role, company_id, version) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, 0)", users);
+                users.clear();
+            }
+        }
+        jdbc.execute("alter sequence COMPANIES_SEQ restart with " + (COMPANIES + 1));
+        jdbc.execute("alter sequence USERS_SEQ restart with " + (USERS + 1));
+    }
+
+    /**
+     * Inserts through JPA so Hibernate's JDBC batching and the pool are what is measured.
+     */
+    private static double writeThroughput(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        Company company = context.getBean(CompanyRepository.class).findById(1L).orElseThrow();
+        TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+        long start = System.nanoTime();
+        for (int from = 0; from < WRITES; from += 1_000) {
+            List<User> users = new ArrayList<>(1_000);
+            for (int i = 0; i < 1_000; i++) {
+                String suffix = UUID.randomUUID().toString();
+                users.add(User.builder().name("write-" + suffix).email(suffix + "@write.test").password(HASH)
+                        .role(Role.HR).company(company).build());
+            }
+            transaction.executeWithoutResult(status -> userRepository.saveAll(users));
+        }
+        return WRITES / ((System.nanoTime() - start) / 1e9);
+    }
+}
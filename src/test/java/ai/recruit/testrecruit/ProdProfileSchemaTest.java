@@ -0,0 +1,75 @@
+package ai.recruit.testrecruit;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The {@code prod} profile builds its schema with Flyway and only validates it against the
+ * entities, so a mapping change without a migration must fail here rather than on deploy.
+ */
+@SpringBootTest(properties = "spring.profiles.active=prod")
+@DirtiesContext
+class ProdProfileSchemaTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:file:" + directory.resolve("prod").toAbsolutePath() + ";DB_CLOSE_ON_EXIT=FALSE");
+        registry.add("app.cache.warm-up.snapshot", () -> directory.resolve("cache.smile").toString());
+    }
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void migrationsMatchTheEntities() {
+        assertNotNull(flyway.info().current());
+        assertEquals(0, flyway.info().pending().length);
+
+        String suffix = UUID.randomUUID().toString();
+        CompanyResponseDto company = companyService.createCompany(CompanyRequestDto.builder()
+                .name("prod-" + suffix).email(suffix + "@prod.test").build());
+        UserRequestDto request = UserRequestDto.builder().name("prod").email(suffix + "@prod.test")
+                .password("secret").role(Role.HR).companyId(company.getIdCompany()).build();
+        UserResponseDto user = userService.createUser(request);
+        request.setName("prod-renamed");
+        userService.updateUser(user.getId(), request, null);
+
+        assertEquals("prod-renamed", userService.findUser(user.getId()).getName());
+        assertEquals(List.of(user.getId()), companyService.findCompanyById(company.getIdCompany()).getUsers()
+                .stream().map(UserResponseDto::getId).toList());
+        assertTrue(meterRegistry.get("hibernate.statements").functionCounter().count() > 0,
+                "Hibernate statistics feed the exported metrics in prod too");
+    }
+}
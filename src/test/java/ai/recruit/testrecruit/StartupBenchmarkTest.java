@@ -0,0 +1,123 @@
+package ai.recruit.testrecruit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time from process launch to the first successful request, for each startup variant of the
+ * packaged application. Every variant runs the extracted jar in a fresh JVM, so class loading
+ * and JIT warm-up are included. Variants whose artifacts are missing are skipped.
+ * Build with {@code mvn -Pfast-start package}, then run
+ * {@code mvn test -Pbenchmark -Dtest=StartupBenchmarkTest}.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final Path DIRECTORY = Path.of("target", "fast-start");
+    private static final Path ARCHIVE = DIRECTORY.resolve("application.jsa");
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @TempDir
+    Path data;
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        Path jar = applicationJar();
+        assumeTrue(jar != null, "run mvn -Pfast-start package first");
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default, docs eager", List.of("-jar", jar.toString(), "--app.startup.lazy-packages="));
+        variants.put("default", List.of("-jar", jar.toString()));
+        variants.put("prod", List.of("-jar", jar.toString(), "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + data.resolve("startup").toAbsolutePath(),
+                "--app.cache.warm-up.snapshot=" + data.resolve("cache.smile").toAbsolutePath()));
+        variants.put("aot", List.of("-Dspring.aot.enabled=true", "-jar", jar.toString()));
+        if (Files.isReadable(ARCHIVE))
+            variants.put("aot+cds", List.of("-XX:SharedArchiveFile=" + ARCHIVE, "-Dspring.aot.enabled=true",
+                    "-jar", jar.toString()));
+
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] runs = new long[RUNS];
+            for (int i = 0; i < RUNS; i++)
+                runs[i] = firstRequestMillis(variant.getValue());
+            Arrays.sort(runs);
+            medians.put(variant.getKey(), runs[RUNS / 2]);
+            System.out.printf("%s: time to first request median=%dms runs=%s%n", variant.getKey(),
+                    runs[RUNS / 2], Arrays.toString(runs));
+        }
+        assertFalse(medians.isEmpty());
+    }
+
+    private long firstRequestMillis(List<String> arguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.add("--server.port=" + port);
+        command.add("--app.admission.enabled=false");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/stats"))
+                .timeout(Duration.ofSeconds(5)).build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(data.resolve("startup-" + port + ".log").toFile()).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive())
+                    throw new IllegalStateException("application exited with " + process.exitValue()
+                            + ", see " + data.resolve("startup-" + port + ".log"));
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200)
+                        return (System.nanoTime() - start) / 1_000_000;
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("no response within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS))
+                process.destroyForcibly();
+        }
+    }
+
+    private static Path applicationJar() throws IOException {
+        if (!Files.isDirectory(DIRECTORY))
+            return null;
+        try (Stream<Path> files = Files.list(DIRECTORY)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package ai.recruit.testrecruit.admission;
+
+import ai.recruit.testrecruit.config.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.admission.client-header=X-Client-Id",
+        "app.admission.list.rate=0.1",
+        "app.admission.list.burst=2"})
+class AdmissionFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void clientOverItsListBudgetGets429WhileOthersAreAdmitted() throws Exception {
+        double rejectedBefore = rejected("list", "rate");
+
+        assertEquals(200, listUsers("noisy").statusCode());
+        assertEquals(200, listUsers("noisy").statusCode());
+        HttpResponse<String> rejected = listUsers("noisy");
+
+        assertEquals(429, rejected.statusCode());
+        assertTrue(Long.parseLong(rejected.headers().firstValue("Retry-After").orElseThrow()) >= 1);
+        assertEquals(200, listUsers("quiet").statusCode());
+        assertNotEquals(429, send("noisy", "/api/v1/users/0").statusCode(), "reads have their own bucket");
+        assertEquals(rejectedBefore + 1, rejected("list", "rate"));
+    }
+
+    @Test
+    void clientsBehindAProxyAreKeyedByForwardedAddress() throws Exception {
+        assertEquals(200, forwarded("10.0.0.1").statusCode());
+        assertEquals(200, forwarded("10.0.0.1").statusCode());
+        assertEquals(429, forwarded("10.0.0.1").statusCode());
+        assertEquals(200, forwarded("10.0.0.2").statusCode());
+    }
+
+    @Test
+    void asyncRequestsHoldTheirSlotUntilTheResponseCompletes() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdmissionFilter filter = new AdmissionFilter(new AdmissionProperties(), registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/users");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertEquals(1, registry.get("http.admission.in.flight").gauge().value());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, registry.get("http.admission.in.flight").gauge().value());
+    }
+
+    @Test
+    void longStreamsLeaveTheLimitAlone() throws Exception {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getList().setLatencyTarget(Duration.ofMillis(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdmissionFilter filter = new AdmissionFilter(properties, registry);
+        double initial = registry.get("http.admission.limit").gauge().value();
+
+        MockHttpServletRequest stream = asyncList("/api/v1/users", "application/x-ndjson");
+        filter.doFilter(stream, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(0, registry.get("http.admission.in.flight").gauge().value());
+        Thread.sleep(20);
+        ((MockAsyncContext) stream.getAsyncContext()).complete();
+        assertEquals(initial, registry.get("http.admission.limit").gauge().value());
+
+        MockHttpServletRequest collected = asyncList("/api/v2/users", "application/json");
+        filter.doFilter(collected, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        Thread.sleep(20);
+        ((MockAsyncContext) collected.getAsyncContext()).complete();
+        assertTrue(registry.get("http.admission.limit").gauge().value() < initial, "slow non-streamed lists still back off");
+    }
+
+    @Test
+    void tokenBucketRefillsAtItsRate() {
+        long start = 0;
+        TokenBucket bucket = new TokenBucket(10, 2, start);
+
+        assertEquals(0, bucket.tryAcquire(start));
+        assertEquals(0, bucket.tryAcquire(start));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryAcquire(start));
+        assertEquals(0, bucket.tryAcquire(start + TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    void concurrencyLimitBacksOffOnSlowResponsesAndGrowsWhenBusy() {
+        AdmissionProperties.Concurrency properties = new AdmissionProperties.Concurrency();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(2);
+        properties.setBackoffRatio(0.5);
+        ConcurrencyLimit limit = new ConcurrencyLimit(properties);
+        long target = Duration.ofMillis(1).toNanos();
+
+        for (int i = 0; i < 4; i++)
+            assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        sleepPast(target);
+        limit.release(target * 10, target, false);
+        limit.release(target * 10, target, false);
+        assertEquals(2, limit.limit(), "one back-off per latency target");
+
+        for (int i = 0; i < 40; i++) {
+            limit.release(0, target, false);
+            assertTrue(limit.tryAcquire());
+        }
+        assertTrue(limit.limit() > 2);
+    }
+
+    private static MockHttpServletRequest asyncList(String path, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept", accept);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private double rejected(String endpointClass, String reason) {
+        return meterRegistry.get("http.admission")
+                .tags("class", endpointClass, "outcome", "rejected", "reason", reason)
+                .counter().count();
+    }
+
+    private HttpResponse<String> forwarded(String address) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users"))
+                .header("X-Forwarded-For", address).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> listUsers(String clientId) throws Exception {
+        return send(clientId, "/api/v1/users");
+    }
+
+    private HttpResponse<String> send(String clientId, String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Client-Id", clientId).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void sleepPast(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
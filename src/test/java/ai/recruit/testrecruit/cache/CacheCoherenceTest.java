@@ -0,0 +1,105 @@
+package ai.recruit.testrecruit.cache;
+
+import ai.recruit.testrecruit.TestRecruitApplication;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application contexts over one database stand in for two replicas: writes on one must
+ * stop the other serving its cached copies.
+ */
+class CacheCoherenceTest {
+
+    private static final Duration CONVERGENCE = Duration.ofSeconds(10);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"loopback", "jdbc"})
+    void writesOnOneInstanceInvalidateThePeer(String transport) throws Exception {
+        String database = "jdbc:h2:mem:coherence-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext nodeA = start(database, transport, "create");
+             ConfigurableApplicationContext nodeB = start(database, transport, "none")) {
+            IUserService usersA = nodeA.getBean(IUserService.class);
+            IUserService usersB = nodeB.getBean(IUserService.class);
+            ICompanyService companiesB = nodeB.getBean(ICompanyService.class);
+
+            long companyId = nodeA.getBean(ICompanyService.class).createCompany(company()).getIdCompany();
+            UserResponseDto user = usersA.createUser(user(companyId, "before"));
+            usersB.findUser(user.getId());
+            companiesB.findCompanyById(companyId);
+            usersB.findAllUsers();
+
+            usersA.updateUser(user.getId(), user(companyId, "after"), null);
+            UserResponseDto added = usersA.createUser(user(companyId, "added"));
+
+            await(() -> usersB.findUser(user.getId()).getName().equals("after"));
+            await(() -> companiesB.findCompanyById(companyId).getUsers().size() == 2);
+            await(() -> usersB.findAllUsers().stream().anyMatch(listed -> listed.getId() == added.getId()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"loopback", "jdbc"})
+    void updatesDoNotLoadEntriesThePeerNeverServed(String transport) throws Exception {
+        String database = "jdbc:h2:mem:coherence-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext nodeA = start(database, transport, "create");
+             ConfigurableApplicationContext nodeB = start(database, transport, "none")) {
+            IUserService usersA = nodeA.getBean(IUserService.class);
+            ICompanyService companiesB = nodeB.getBean(ICompanyService.class);
+
+            long companyId = nodeA.getBean(ICompanyService.class).createCompany(company()).getIdCompany();
+            UserResponseDto user = usersA.createUser(user(companyId, "before"));
+            companiesB.findCompanyById(companyId);
+
+            usersA.updateUser(user.getId(), user(companyId, "after"), null);
+            usersA.createUser(user(companyId, "added"));
+            await(() -> companiesB.findCompanyById(companyId).getUsers().size() == 2);
+
+            Object nativeUsers = nodeB.getBean(CacheManager.class).getCache("users").getNativeCache();
+            assertNull(((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeUsers).getIfPresent(user.getId()));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String database, String transport, String ddl) {
+        return new SpringApplicationBuilder(TestRecruitApplication.class).properties(
+                "spring.datasource.url=" + database,
+                "spring.jpa.hibernate.ddl-auto=" + ddl,
+                "server.port=0",
+                "app.cache.warm-up.enabled=false",
+                "app.cache.coherence.transport=" + transport,
+                "app.cache.coherence.poll-interval=50ms").run();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + CONVERGENCE.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "peer still serves a stale cache entry");
+            Thread.sleep(20);
+        }
+    }
+
+    private static CompanyRequestDto company() {
+        String suffix = UUID.randomUUID().toString();
+        return CompanyRequestDto.builder().name("coherence-" + suffix).email(suffix + "@coherence.test").build();
+    }
+
+    private static UserRequestDto user(long companyId, String name) {
+        return UserRequestDto.builder().name(name).email(name + "-" + UUID.randomUUID() + "@coherence.test")
+                .password("secret").role(Role.HR).companyId(companyId).build();
+    }
+}
@@ -0,0 +1,146 @@
+package ai.recruit.testrecruit.cache;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+class CacheWarmerSnapshotTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("app.cache.warm-up.snapshot", () -> directory.resolve("cache.smile").toString());
+    }
+
+    @Autowired
+    private CacheWarmer cacheWarmer;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void restoresSnapshotAndReloadsEntriesWhoseVersionMoved() throws Exception {
+        Cache users = cacheManager.getCache("users");
+        Cache companies = cacheManager.getCache("companies");
+        users.clear();
+        companies.clear();
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("warm-" + suffix).email(suffix + "@warm.test").build()).getIdCompany();
+        UserResponseDto changed = userService.createUser(user(companyId, "a-" + suffix, Role.HR));
+        UserResponseDto unchanged = userService.createUser(user(companyId, "b-" + suffix, Role.HR));
+        companyService.findCompanyById(companyId);
+
+        cacheWarmer.saveSnapshot();
+        UserResponseDto updated = userService.updateUser(changed.getId(),
+                user(companyId, "a-" + suffix, Role.CTO), null);
+        // same version, new content: only a reload could pick this up
+        jdbcTemplate.update("update USERS set address = 'moved' where id = ?", unchanged.getId());
+        users.clear();
+        companies.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            cacheWarmer.warmUp();
+            assertEquals(1, rowsReloaded(statistics, "UserResponseDto"), "only the user whose version moved");
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(unchanged, nativeCache(users).getIfPresent(unchanged.getId()));
+        assertEquals(updated, nativeCache(users).getIfPresent(changed.getId()));
+        assertEquals(1, updated.getVersion());
+        CompanyResponseDto company = (CompanyResponseDto) nativeCache(companies).getIfPresent(companyId);
+        assertNotNull(company);
+        assertTrue(company.getUsers().contains(updated));
+    }
+
+    @Test
+    void snapshotIsReadableByItsOwnerOnly() throws Exception {
+        cacheWarmer.saveSnapshot();
+        Path snapshot = directory.resolve("cache.smile");
+        assumeTrue(snapshot.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(snapshot));
+    }
+
+    @Test
+    void truncatedSnapshotFallsBackToTheNewestRows() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("truncated-" + suffix).email(suffix + "@warm.test").build()).getIdCompany();
+        UserResponseDto newest = userService.createUser(user(companyId, "t-" + suffix, Role.HR));
+        userService.findUser(newest.getId());
+        cacheWarmer.saveSnapshot();
+        Path snapshot = directory.resolve("cache.smile");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+        Cache users = cacheManager.getCache("users");
+        users.clear();
+
+        assertDoesNotThrow(() -> cacheWarmer.run(null));
+
+        assertFalse(Files.exists(snapshot), "an unreadable snapshot is discarded");
+        assertEquals(newest, nativeCache(users).getIfPresent(newest.getId()));
+    }
+
+    /**
+     * Rows returned by the id-list reload queries that project into {@code dto}.
+     */
+    private static long rowsReloaded(Statistics statistics, String dto) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains(dto) && query.contains("in :ids"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    private static UserRequestDto user(long companyId, String name, Role role) {
+        return UserRequestDto.builder().name(name).email(name + "@warm.test").password("secret")
+                .role(role).companyId(companyId).build();
+    }
+}
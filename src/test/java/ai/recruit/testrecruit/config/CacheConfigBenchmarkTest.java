@@ -0,0 +1,85 @@
+package ai.recruit.testrecruit.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Read workload over a Zipfian key spread: the cache must stay at its configured bound
+ * while still absorbing most reads, and the heap must not grow with the key space.
+ * Run with {@code mvn test -Pbenchmark -Dtest=CacheConfigBenchmarkTest}.
+ */
+@Tag("benchmark")
+class CacheConfigBenchmarkTest {
+
+    private static final int KEY_SPACE = 200_000;
+    private static final int READS = 2_000_000;
+    private static final long MAX_ENTRIES = 5_000;
+
+    @Test
+    void boundedCacheKeepsHeapFlatUnderZipfianReads() {
+        CacheTierProperties.Spec spec = new CacheTierProperties.Spec();
+        spec.setMaximumSize(MAX_ENTRIES);
+        Cache<Object, Object> cache = CacheConfig.buildCache(spec, key -> null, (key, value, cause) -> { });
+        Zipf zipf = new Zipf(KEY_SPACE, 0.99);
+        SplittableRandom random = new SplittableRandom(42);
+
+        runReads(cache, zipf, random, READS / 4);
+        long heapAfterWarmup = usedHeap();
+        long start = System.nanoTime();
+        runReads(cache, zipf, random, READS);
+        long elapsed = System.nanoTime() - start;
+        long heapAfterRun = usedHeap();
+
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        System.out.printf("reads=%d time=%dms hitRatio=%.3f evictions=%d size=%d heapDelta=%dKB%n",
+                READS, elapsed / 1_000_000, stats.hitRate(), stats.evictionCount(),
+                cache.estimatedSize(), (heapAfterRun - heapAfterWarmup) / 1024);
+
+        assertTrue(cache.estimatedSize() <= MAX_ENTRIES);
+        assertTrue(stats.evictionCount() > 0);
+        assertTrue(stats.hitRate() > 0.5);
+        assertTrue(heapAfterRun - heapAfterWarmup < 64L * 1024 * 1024);
+    }
+
+    private static void runReads(Cache<Object, Object> cache, Zipf zipf, SplittableRandom random, int reads) {
+        for (int i = 0; i < reads; i++) {
+            long id = zipf.next(random);
+            cache.get(id, key -> new byte[256]);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n, double skew) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, skew);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < n; i++)
+                cumulative[i] /= sum;
+        }
+
+        long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        }
+    }
+}
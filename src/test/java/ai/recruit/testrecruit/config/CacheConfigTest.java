@@ -0,0 +1,42 @@
+package ai.recruit.testrecruit.config;
+
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    @Test
+    void companiesWeighOnePlusTheirUsers() {
+        CacheTierProperties.Spec spec = new CacheTierProperties.Spec();
+        spec.setMaximumWeight(20L);
+        Cache<Object, Object> cache = CacheConfig.buildCache(spec, key -> null, (key, value, cause) -> { });
+
+        cache.put(1L, company(1, 9));
+        cache.put(2L, company(2, 0));
+        cache.put(3L, UserResponseDto.builder().id(3).build());
+        cache.cleanUp();
+        assertEquals(12, cache.policy().eviction().orElseThrow().weightedSize().orElseThrow());
+
+        cache.put(4L, company(4, 9));
+        cache.cleanUp();
+        assertTrue(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow() <= 20);
+    }
+
+    private static CompanyResponseDto company(long id, int users) {
+        CompanyResponseDto company = new CompanyResponseDto();
+        company.setIdCompany(id);
+        company.setUsers(new ArrayList<>(LongStream.range(0, users)
+                .mapToObj(user -> UserResponseDto.builder().id(id * 100 + user).build())
+                .toList()));
+        return company;
+    }
+}
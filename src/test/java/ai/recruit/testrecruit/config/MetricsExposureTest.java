@@ -0,0 +1,62 @@
+package ai.recruit.testrecruit.config;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.service.ICompanyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The service timers and cache removal counters are registered and scraped.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MetricsExposureTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceTimersAndCacheRemovalsReachPrometheus() throws Exception {
+        Counter explicit = meterRegistry.get("cache.removals").tags("cache", "companies", "cause", "explicit").counter();
+        double explicitBefore = explicit.count();
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("metrics-" + suffix).email(suffix + "@metrics.test").build()).getIdCompany();
+        companyService.findCompanyById(companyId);
+        cacheManager.getCache("companies").evict(companyId);
+
+        assertTrue(meterRegistry.get("app.service").tag("method", "createCompany").timer().count() >= 1);
+        assertTrue(meterRegistry.get("app.service").tag("method", "findCompanyById").timer().count() >= 1);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (explicit.count() == explicitBefore && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertTrue(explicit.count() > explicitBefore, "removal listener runs on Caffeine's executor");
+
+        HttpResponse<String> scrape = HttpClient.newHttpClient().send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/actuator/prometheus")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, scrape.statusCode());
+        assertTrue(scrape.body().contains("app_service_seconds_count{"));
+        assertTrue(scrape.body().contains("method=\"createCompany\""));
+        assertTrue(scrape.body().contains("cache_removals_total{cache=\"companies\",cause=\"explicit\""));
+    }
+}
@@ -0,0 +1,178 @@
+package ai.recruit.testrecruit.events;
+
+import ai.recruit.testrecruit.config.ChangeFeedProperties;
+import ai.recruit.testrecruit.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Readers that stop reading must be dropped without holding back anyone else, one
+ * committed batch must fit a subscriber's queue, and concurrent subscribes stay under the cap.
+ */
+class ChangeFeedBackpressureTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Test
+    void stalledReadersAreDroppedWithoutStallingOthers() throws Exception {
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setSenderThreads(1);
+        properties.setSendTimeout(Duration.ofMillis(200));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        Deque<SseEmitter> emitters = new ArrayDeque<>();
+        CountingEmitter fast = new CountingEmitter();
+        emitters.add(new StalledEmitter(release));
+        emitters.add(new StalledEmitter(release));
+        emitters.add(fast);
+        ChangeFeed feed = feed(properties, registry, emitters);
+        try {
+            for (int i = 0; i < 3; i++)
+                feed.subscribe(null);
+
+            for (int i = 0; i < 10; i++)
+                feed.created(ChangeFeed.USER, i);
+
+            await(() -> fast.sent.get() == 10);
+            await(() -> registry.get("events.subscribers.dropped").counter().count() == 2);
+            assertEquals(1, registry.get("events.subscribers").gauge().value());
+        } finally {
+            release.countDown();
+            feed.shutdown();
+        }
+    }
+
+    @Test
+    void oneFullBatchFitsTheDefaultQueue() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        Deque<SseEmitter> emitters = new ArrayDeque<>();
+        CountingEmitter slowStart = new CountingEmitter(release);
+        emitters.add(slowStart);
+        ChangeFeed feed = feed(new ChangeFeedProperties(), registry, emitters);
+        try {
+            feed.subscribe(null);
+            for (int i = 0; i < 1000; i++)
+                feed.created(ChangeFeed.USER, i);
+            release.countDown();
+
+            await(() -> slowStart.sent.get() == 1000);
+            assertEquals(0, registry.get("events.subscribers.dropped").counter().count());
+        } finally {
+            feed.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentSubscribesStayUnderTheCap() throws Exception {
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setMaxSubscribers(8);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChangeFeed feed = new ChangeFeed(properties, registry);
+        ExecutorService clients = Executors.newFixedThreadPool(32);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger admitted = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            List<Future<?>> attempts = new ArrayList<>();
+            for (int i = 0; i < 64; i++)
+                attempts.add(clients.submit(() -> {
+                    start.await();
+                    try {
+                        feed.subscribe(null);
+                        admitted.incrementAndGet();
+                    } catch (ServiceUnavailableException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            start.countDown();
+            for (Future<?> attempt : attempts)
+                attempt.get();
+
+            assertEquals(8, admitted.get());
+            assertEquals(56, rejected.get());
+            assertEquals(8, registry.get("events.subscribers").gauge().value());
+        } finally {
+            clients.shutdownNow();
+            feed.shutdown();
+        }
+    }
+
+    private static ChangeFeed feed(ChangeFeedProperties properties, SimpleMeterRegistry registry,
+                                   Deque<SseEmitter> emitters) {
+        return new ChangeFeed(properties, registry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitters.removeFirst();
+            }
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached within " + WAIT);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("reader went away");
+        }
+    }
+
+    private static final class CountingEmitter extends SseEmitter {
+        private final AtomicInteger sent = new AtomicInteger();
+        private final CountDownLatch start;
+
+        CountingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        CountingEmitter(CountDownLatch start) {
+            this.start = start;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                start.await(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
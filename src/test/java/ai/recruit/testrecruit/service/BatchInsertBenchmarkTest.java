@@ -0,0 +1,88 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares one-at-a-time creates with the batch endpoints' service path.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BatchInsertBenchmarkTest {
+
+    private static final int COMPANIES = 1000;
+    private static final int USERS = 100;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+
+    @Test
+    void companies() {
+        List<CompanyRequestDto> single = companies(COMPANIES);
+        long start = System.nanoTime();
+        single.forEach(companyService::createCompany);
+        long singleNanos = System.nanoTime() - start;
+
+        List<CompanyRequestDto> batch = companies(COMPANIES);
+        start = System.nanoTime();
+        companyService.createCompanies(batch);
+        long batchNanos = System.nanoTime() - start;
+
+        report("companies", COMPANIES, singleNanos, batchNanos);
+        assertTrue(batchNanos < singleNanos);
+    }
+
+    @Test
+    void users() {
+        long companyId = companyService.createCompany(companies(1).get(0)).getIdCompany();
+        List<UserRequestDto> single = users(USERS, companyId);
+        long start = System.nanoTime();
+        single.forEach(userService::createUser);
+        long singleNanos = System.nanoTime() - start;
+
+        List<UserRequestDto> batch = users(USERS, companyId);
+        start = System.nanoTime();
+        List<BatchItemResultDto<UserResponseDto>> results = userService.createUsers(batch);
+        long batchNanos = System.nanoTime() - start;
+
+        report("users", USERS, singleNanos, batchNanos);
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == 201));
+    }
+
+    private static void report(String name, int count, long singleNanos, long batchNanos) {
+        System.out.printf("%s: single=%.0f/s batch=%.0f/s%n", name,
+                count / (singleNanos / 1e9), count / (batchNanos / 1e9));
+    }
+
+    private static List<CompanyRequestDto> companies(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            String suffix = UUID.randomUUID().toString();
+            return CompanyRequestDto.builder().name("company-" + suffix).email(suffix + "@company.test").build();
+        }).toList();
+    }
+
+    private static List<UserRequestDto> users(int count, long companyId) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            String suffix = UUID.randomUUID().toString();
+            return UserRequestDto.builder().name("user-" + suffix).email(suffix + "@user.test")
+                    .password("secret").role(Role.HR).companyId(companyId).build();
+        }).toList();
+    }
+}
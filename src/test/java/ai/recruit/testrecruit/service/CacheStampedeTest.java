@@ -0,0 +1,121 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "app.cache.stale-while-revalidate=true")
+class CacheStampedeTest {
+
+    private static final int CALLERS = 200;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long companyId;
+    private UserResponseDto user;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("stampede-" + suffix).email(suffix + "@stampede.test").build()).getIdCompany();
+        user = userService.createUser(newUser(companyId));
+        cacheManager.getCache("companies").clear();
+        cacheManager.getCache("users").clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void simultaneousCompanyMissesShareOneLoad() throws Exception {
+        List<CompanyResponseDto> results = concurrently(() -> companyService.findCompanyById(companyId));
+
+        assertTrue(results.stream().allMatch(company -> company.getUsers().size() == 1));
+        assertEquals(2, statistics.getPrepareStatementCount(), "company row and its users, loaded once");
+    }
+
+    @Test
+    void simultaneousUserMissesShareOneLoad() throws Exception {
+        List<UserResponseDto> results = concurrently(() -> userService.findUser(user.getId()));
+
+        assertTrue(results.stream().allMatch(user::equals));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void userWriteRevalidatesCachedCompanyInBackground() throws Exception {
+        companyService.findCompanyById(companyId);
+        userService.createUser(newUser(companyId));
+
+        CompanyResponseDto served = companyService.findCompanyById(companyId);
+        assertTrue(served.getUsers().size() >= 1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (companyService.findCompanyById(companyId).getUsers().size() != 2 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        assertEquals(2, companyService.findCompanyById(companyId).getUsers().size());
+    }
+
+    private static <T> List<T> concurrently(Supplier<T> call) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++)
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return call.get();
+                }));
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures)
+                results.add(future.get(1, TimeUnit.MINUTES));
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static UserRequestDto newUser(long companyId) {
+        String suffix = UUID.randomUUID().toString();
+        return UserRequestDto.builder().name("user-" + suffix).email(suffix + "@stampede.test")
+                .password("secret").role(Role.HR).companyId(companyId).build();
+    }
+}
@@ -0,0 +1,101 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CompanyFetchPlanTest {
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private long companyId;
+
+    @BeforeEach
+    void setUp() {
+        for (int c = 0; c < 5; c++) {
+            String suffix = UUID.randomUUID().toString();
+            CompanyResponseDto company = companyService.createCompany(CompanyRequestDto.builder()
+                    .name("company-" + suffix).email(suffix + "@company.test").build());
+            companyId = company.getIdCompany();
+            for (int u = 0; u < 3; u++) {
+                String userSuffix = UUID.randomUUID().toString();
+                userService.createUser(UserRequestDto.builder()
+                        .name("user-" + userSuffix).email(userSuffix + "@user.test").password("secret")
+                        .role(Role.HR).companyId(company.getIdCompany()).build());
+            }
+        }
+        cacheManager.getCache("companies").clear();
+        cacheManager.getCache("users").clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void listWithUsersLoadsInBoundedStatements() {
+        List<CompanyResponseDto> companies = companyService.findAllCompanies();
+
+        assertTrue(companies.size() >= 5);
+        assertTrue(companies.stream().allMatch(company -> company.getUsers() != null));
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void summariesSkipUsers() {
+        List<CompanyResponseDto> companies = companyService.findAllCompanySummaries();
+
+        assertTrue(companies.size() >= 5);
+        companies.forEach(company -> assertNull(company.getUsers()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void pageWithUsersBatchFetchesCollections() {
+        companyService.findCompaniesPage(null, 20, true);
+
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdProjectsWithoutHydratingEntities() {
+        CompanyResponseDto company = companyService.findCompanyById(companyId);
+        userService.findUser(company.getUsers().get(0).getId());
+
+        assertEquals(3, company.getUsers().size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,130 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.mapper.UserResponseMapper;
+import ai.recruit.testrecruit.repository.CompanyRepository;
+import ai.recruit.testrecruit.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class ListCacheConsistencyTest {
+
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private UserResponseMapper userResponseMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void listsStayConsistentUnderConcurrentWrites() throws Exception {
+        long first = newCompany().getIdCompany();
+        long second = newCompany().getIdCompany();
+        companyService.findAllCompanies();
+        userService.findAllUsers();
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            writers.add(pool.submit(() -> {
+                for (int i = 0; i < 8; i++) {
+                    UserResponseDto user = userService.createUser(newUser(first));
+                    if (i % 2 == 0)
+                        userService.updateUser(user.getId(), renamed(user, second), null);
+                    if (i % 3 == 0)
+                        userService.deleteUser(user.getId());
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < 4; r++) {
+            pool.submit(() -> {
+                while (writing.get()) {
+                    userService.findAllUsers();
+                    companyService.findAllCompanies();
+                }
+            });
+        }
+        for (Future<?> writer : writers)
+            writer.get(2, TimeUnit.MINUTES);
+        writing.set(false);
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        Map<Long, UserResponseDto> freshUsers = userRepository.findAll().stream()
+                .map(userResponseMapper::userToUserResponseDto)
+                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity()));
+        Map<Long, UserResponseDto> cachedUsers = userService.findAllUsers().stream()
+                .collect(Collectors.toMap(UserResponseDto::getId, Function.identity()));
+        assertEquals(freshUsers, cachedUsers);
+
+        Map<Long, Set<Long>> freshCompanies = transactionTemplate.execute(status ->
+                companyRepository.findAll().stream().collect(Collectors.toMap(
+                        company -> company.getIdCompany(),
+                        company -> company.getUsers().stream().map(user -> user.getId()).collect(Collectors.toSet()))));
+        assertEquals(freshCompanies, companyMembers(companyService.findAllCompanies()));
+    }
+
+    private static Map<Long, Set<Long>> companyMembers(List<CompanyResponseDto> companies) {
+        return companies.stream().collect(Collectors.toMap(
+                CompanyResponseDto::getIdCompany,
+                company -> company.getUsers().stream().map(UserResponseDto::getId).collect(Collectors.toSet())));
+    }
+
+    private CompanyResponseDto newCompany() {
+        String suffix = UUID.randomUUID().toString();
+        return companyService.createCompany(CompanyRequestDto.builder()
+                .name("company-" + suffix)
+                .email(suffix + "@company.test")
+                .build());
+    }
+
+    private static UserRequestDto newUser(long companyId) {
+        String suffix = UUID.randomUUID().toString();
+        return UserRequestDto.builder()
+                .name("user-" + suffix)
+                .email(suffix + "@user.test")
+                .password("secret")
+                .role(Role.SOFTWARE_ENGINEER)
+                .companyId(companyId)
+                .build();
+    }
+
+    private static UserRequestDto renamed(UserResponseDto user, long companyId) {
+        return UserRequestDto.builder()
+                .name(user.getName() + "-renamed")
+                .email(user.getEmail())
+                .role(Role.TEAM_LEAD)
+                .companyId(companyId)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package ai.recruit.testrecruit.service;
+
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.PageResponseDto;
+import ai.recruit.testrecruit.dto.UserFilterDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.exception.NotFoundException;
+import ai.recruit.testrecruit.exception.ValidationException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UserSearchTest {
+
+    private static final List<String> NAMES = List.of("alice", "Albert", "al_x", "Bob", "alfred", "ALINA", "carl");
+
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long companyId;
+    private List<UserResponseDto> users;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("search-" + suffix).email(suffix + "@search.test").build()).getIdCompany();
+        List<UserRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < NAMES.size(); i++)
+            requests.add(UserRequestDto.builder().name(NAMES.get(i)).email(i + "-" + suffix + "@search.test")
+                    .password("secret").role(i % 2 == 0 ? Role.HR : Role.CTO).companyId(companyId).build());
+        users = userService.createUsers(requests).stream().map(BatchItemResultDto::getItem).toList();
+    }
+
+    @Test
+    void filtersByCompanyAndRole() {
+        List<UserResponseDto> found = userService.findUsers(UserFilterDto.builder()
+                .companyId(companyId).role(Role.CTO).build());
+
+        assertEquals(List.of("Albert", "Bob", "ALINA"), found.stream().map(UserResponseDto::getName).toList());
+    }
+
+    @Test
+    void namePrefixIsCaseInsensitiveAndLiteral() {
+        List<String> found = userService.findUsers(UserFilterDto.builder()
+                        .companyId(companyId).namePrefix("AL").sort("name").build())
+                .stream().map(UserResponseDto::getName).toList();
+        List<String> underscore = userService.findUsers(UserFilterDto.builder()
+                        .companyId(companyId).namePrefix("al_").build())
+                .stream().map(UserResponseDto::getName).toList();
+
+        assertEquals(List.of("al_x", "Albert", "alfred", "alice", "ALINA"), found);
+        assertEquals(List.of("al_x"), underscore);
+    }
+
+    @Test
+    void pagesByNameWithoutHydratingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        UserFilterDto filter = UserFilterDto.builder().companyId(companyId).sort("name").build();
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        try {
+            do {
+                PageResponseDto<UserResponseDto> page = userService.findUsersPage(filter, cursor, 3);
+                page.getItems().forEach(user -> names.add(user.getName()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(List.of("al_x", "Albert", "alfred", "alice", "ALINA", "Bob", "carl"), names);
+    }
+
+    @Test
+    void companyUsersPageByIdAndMissingCompany() {
+        PageResponseDto<UserResponseDto> first = userService.findCompanyUsersPage(companyId, null, 4);
+        PageResponseDto<UserResponseDto> second = userService.findCompanyUsersPage(companyId, first.getNextCursor(), 4);
+
+        assertTrue(first.isHasMore());
+        assertFalse(second.isHasMore());
+        assertEquals(users, Stream.concat(first.getItems().stream(), second.getItems().stream()).toList());
+        assertThrows(NotFoundException.class, () -> userService.findCompanyUsersPage(-1, null, 4));
+        assertThrows(ValidationException.class, () -> userService.findUsersPage(
+                UserFilterDto.builder().sort("email").build(), null, 4));
+    }
+}
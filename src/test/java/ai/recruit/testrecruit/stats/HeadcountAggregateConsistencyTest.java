@@ -0,0 +1,89 @@
+package ai.recruit.testrecruit.stats;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.StatsResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.repository.UserRepository;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class HeadcountAggregateConsistencyTest {
+
+    @Autowired
+    private HeadcountAggregate headcounts;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void incrementalCountsMatchRecountAfterMixedWrites() throws Exception {
+        List<Long> companies = List.of(newCompany(), newCompany(), newCompany());
+        Role[] roles = Role.values();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int worker = 0; worker < 4; worker++) {
+                long seed = worker;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    List<UserResponseDto> mine = new ArrayList<>();
+                    for (int i = 0; i < 40; i++) {
+                        int op = mine.isEmpty() ? 0 : random.nextInt(3);
+                        if (op == 0) {
+                            mine.add(userService.createUser(request(companies.get(random.nextInt(companies.size())),
+                                    roles[random.nextInt(roles.length)], UUID.randomUUID() + "@stats.test", "secret")));
+                        } else if (op == 1) {
+                            UserResponseDto user = mine.remove(random.nextInt(mine.size()));
+                            mine.add(userService.updateUser(user.getId(), request(companies.get(random.nextInt(companies.size())),
+                                    roles[random.nextInt(roles.length)], user.getEmail(), null), null));
+                        } else {
+                            userService.deleteUser(mine.remove(random.nextInt(mine.size())).getId());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        StatsResponseDto incremental = headcounts.snapshot();
+        HeadcountAggregate recount = new HeadcountAggregate(userRepository);
+        recount.rebuild();
+
+        assertEquals(recount.snapshot(), incremental);
+        assertEquals(userRepository.count(), incremental.getTotalUsers());
+    }
+
+    private long newCompany() {
+        String suffix = UUID.randomUUID().toString();
+        return companyService.createCompany(CompanyRequestDto.builder()
+                .name("stats-" + suffix).email(suffix + "@stats.test").build()).getIdCompany();
+    }
+
+    private static UserRequestDto request(long companyId, Role role, String email, String password) {
+        return UserRequestDto.builder().name("user-" + email).email(email)
+                .password(password).role(role).companyId(companyId).build();
+    }
+}
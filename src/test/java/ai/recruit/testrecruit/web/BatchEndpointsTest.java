@@ -0,0 +1,132 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.BatchItemResultDto;
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserFilterDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The {@code :batch} endpoints answer 207 with one result per item, in request order, and
+ * persist only the items they accepted.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BatchEndpointsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void mixedUserBatchReportsEachItem() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = company(suffix).getIdCompany();
+        String existing = "existing-" + suffix + "@batch.test";
+        userService.createUser(user("existing", existing, companyId));
+        String repeated = "repeated-" + suffix + "@batch.test";
+
+        HttpResponse<String> response = post("/users:batch", List.of(
+                user("accepted", "accepted-" + suffix + "@batch.test", companyId),
+                user("taken", existing, companyId),
+                user("first", repeated, companyId),
+                user("second", repeated, companyId),
+                user("orphan", "orphan-" + suffix + "@batch.test", Long.MAX_VALUE),
+                user("anonymous", null, companyId),
+                user("also-anonymous", null, companyId)));
+
+        assertEquals(207, response.statusCode());
+        List<BatchItemResultDto<UserResponseDto>> results = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        assertEquals(List.of(201, 409, 201, 409, 404, 400, 400), results.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), results.stream().map(BatchItemResultDto::getIndex).toList());
+        assertEquals("Email already exists", results.get(1).getMessage());
+        assertEquals("Email already exists", results.get(3).getMessage());
+        assertEquals("email is required", results.get(6).getMessage());
+        assertNotNull(results.get(0).getItem().getId());
+        assertNull(results.get(1).getItem());
+
+        List<String> persisted = userService.findUsers(UserFilterDto.builder().companyId(companyId).sort("name").build())
+                .stream().map(UserResponseDto::getName).toList();
+        assertEquals(List.of("accepted", "existing", "first"), persisted);
+    }
+
+    @Test
+    void mixedCompanyBatchReportsEachItem() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        CompanyResponseDto existing = company(suffix);
+
+        HttpResponse<String> response = post("/companies:batch", List.of(
+                CompanyRequestDto.builder().name("accepted-" + suffix).email("accepted-" + suffix + "@batch.test").build(),
+                CompanyRequestDto.builder().name(existing.getName()).email("other-" + suffix + "@batch.test").build(),
+                CompanyRequestDto.builder().name("unnamed-" + suffix).build(),
+                CompanyRequestDto.builder().name("also-unnamed-" + suffix).build(),
+                CompanyRequestDto.builder().email("nameless-" + suffix + "@batch.test").build(),
+                CompanyRequestDto.builder().email("also-nameless-" + suffix + "@batch.test").build()));
+
+        assertEquals(207, response.statusCode());
+        List<BatchItemResultDto<CompanyResponseDto>> results = objectMapper.readValue(response.body(), new TypeReference<>() {
+        });
+        assertEquals(List.of(201, 409, 201, 201, 400, 400), results.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals("Name already exists", results.get(1).getMessage());
+        assertEquals("name is required", results.get(5).getMessage());
+    }
+
+    @Test
+    void oversizedBatchesAreRejectedWhole() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = company(suffix).getIdCompany();
+
+        assertEquals(400, post("/users:batch",
+                Collections.nCopies(1001, user("bulk", "bulk-" + suffix + "@batch.test", companyId))).statusCode());
+        assertEquals(400, post("/companies:batch",
+                Collections.nCopies(1001, CompanyRequestDto.builder().name("bulk-" + suffix).build())).statusCode());
+        assertEquals(List.of(), userService.findUsers(UserFilterDto.builder().companyId(companyId).build()));
+    }
+
+    private HttpResponse<String> post(String path, Object body) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompanyResponseDto company(String suffix) {
+        return companyService.createCompany(CompanyRequestDto.builder()
+                .name("batch-" + suffix).email(suffix + "@batch.test").build());
+    }
+
+    private static UserRequestDto user(String name, String email, long companyId) {
+        return UserRequestDto.builder().name(name).email(email)
+                .password("secret").role(Role.HR).companyId(companyId).build();
+    }
+}
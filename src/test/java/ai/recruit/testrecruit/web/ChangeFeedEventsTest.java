@@ -0,0 +1,85 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.events.ChangeFeed;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChangeFeedEventsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void resumesFromLastEventIdThenStreamsLiveEvents() throws Exception {
+        long before = changeFeed.lastSequence();
+        UserResponseDto user = newUser();
+
+        HttpResponse<Stream<String>> response = client.sendAsync(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/events"))
+                .header("Last-Event-ID", Long.toString(before)).build(), HttpResponse.BodyHandlers.ofLines())
+                .get(5, TimeUnit.SECONDS);
+        Iterator<String> lines = response.body().iterator();
+
+        assertEquals(List.of("id:" + (before + 1), "event:company.created"), nextEvent(lines));
+        assertEquals(List.of("id:" + (before + 2), "event:user.created"), nextEvent(lines));
+        userService.deleteUser(user.getId());
+        assertEquals(List.of("id:" + (before + 3), "event:user.deleted"), nextEvent(lines));
+        response.body().close();
+    }
+
+    /**
+     * Reads up to the blank line ending the next event and returns its id and name lines.
+     */
+    private static List<String> nextEvent(Iterator<String> lines) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            String id = null;
+            String name = null;
+            for (String line = lines.next(); !line.isEmpty() || id == null; line = lines.next()) {
+                if (line.startsWith("id:"))
+                    id = line;
+                else if (line.startsWith("event:"))
+                    name = line;
+            }
+            return List.of(id, name);
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private UserResponseDto newUser() {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("events-" + suffix).email(suffix + "@events.test").build()).getIdCompany();
+        return userService.createUser(UserRequestDto.builder().name("user-" + suffix).email(suffix + "@user.test")
+                .password("secret").role(Role.HR).companyId(companyId).build());
+    }
+}
@@ -0,0 +1,113 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ConditionalRequestsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void ifNoneMatchReturnsNotModifiedForTheCurrentTag() throws Exception {
+        UserResponseDto user = userService.createUser(user(company().getIdCompany(), "reader"));
+        HttpResponse<String> first = get("/users/" + user.getId(), null);
+        String eTag = first.headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(200, first.statusCode());
+        assertEquals(304, get("/users/" + user.getId(), eTag).statusCode());
+        assertEquals(304, get("/users/" + user.getId(), "W/" + eTag).statusCode());
+        assertEquals(304, get("/users/" + user.getId(), "\"other\", " + eTag).statusCode());
+        assertEquals(200, get("/users/" + user.getId(), "\"u" + user.getId() + "-99\"").statusCode());
+    }
+
+    @Test
+    void ifMatchComparesTheWholeStrongTag() throws Exception {
+        long companyId = company().getIdCompany();
+        UserResponseDto user = userService.createUser(user(companyId, "target"));
+        UserResponseDto other = userService.createUser(user(companyId, "other"));
+        String path = "/users/" + user.getId();
+        String eTag = get(path, null).headers().firstValue("ETag").orElseThrow();
+        String otherTag = "\"u" + other.getId() + "-" + user.getVersion() + "\"";
+
+        assertEquals(412, put(path, user(companyId, "target"), otherTag).statusCode());
+        assertEquals(412, put(path, user(companyId, "target"), "W/" + eTag).statusCode());
+        HttpResponse<String> updated = put(path, user(companyId, "target"), "\"stale\", " + eTag);
+        assertEquals(200, updated.statusCode());
+        assertNotEquals(eTag, updated.headers().firstValue("ETag").orElseThrow());
+        assertEquals(412, put(path, user(companyId, "target"), eTag).statusCode());
+        assertEquals(200, put(path, user(companyId, "target"), "*").statusCode());
+    }
+
+    @Test
+    void companyTagGoesStaleWhenAMemberChanges() throws Exception {
+        CompanyResponseDto company = company();
+        UserResponseDto member = userService.createUser(user(company.getIdCompany(), "member"));
+        String path = "/companies/" + company.getIdCompany();
+        String eTag = get(path, null).headers().firstValue("ETag").orElseThrow();
+
+        userService.updateUser(member.getId(), user(company.getIdCompany(), "member-renamed"), null);
+
+        CompanyRequestDto rename = CompanyRequestDto.builder()
+                .name(company.getName() + "-renamed").email(company.getEmail()).build();
+        assertEquals(200, get(path, eTag).statusCode());
+        assertEquals(412, put(path, rename, eTag).statusCode());
+        String current = get(path, null).headers().firstValue("ETag").orElseThrow();
+        assertEquals(200, put(path, rename, current).statusCode());
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path));
+        if (ifNoneMatch != null)
+            request.header("If-None-Match", ifNoneMatch);
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> put(String path, Object body, String ifMatch) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .header("Content-Type", "application/json")
+                .header("If-Match", ifMatch)
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompanyResponseDto company() {
+        String suffix = UUID.randomUUID().toString();
+        return companyService.createCompany(CompanyRequestDto.builder()
+                .name("etag-" + suffix).email(suffix + "@etag.test").build());
+    }
+
+    private static UserRequestDto user(long companyId, String name) {
+        return UserRequestDto.builder().name(name).email(name + "-" + companyId + "@etag.test")
+                .password("secret").role(Role.HR).companyId(companyId).build();
+    }
+}
@@ -0,0 +1,79 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ContentNegotiationTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void largeJsonIsGzippedAndSmileDecodesToTheSameCompany() throws Exception {
+        long companyId = seed();
+
+        HttpResponse<byte[]> json = get(companyId, "application/json", "gzip");
+        HttpResponse<byte[]> smile = get(companyId, SMILE, "identity");
+
+        assertEquals("gzip", json.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(smile.headers().firstValue("Content-Type").orElse("").startsWith(SMILE));
+        ObjectMapper jsonMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+        CompanyResponseDto fromJson = jsonMapper.readValue(
+                new GZIPInputStream(new ByteArrayInputStream(json.body())), CompanyResponseDto.class);
+        CompanyResponseDto fromSmile = smileMapper.readValue(smile.body(), CompanyResponseDto.class);
+        assertEquals(fromJson, fromSmile);
+        assertEquals(40, fromSmile.getUsers().size());
+    }
+
+    private HttpResponse<byte[]> get(long companyId, String accept, String encoding) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/companies/" + companyId))
+                .header("Accept", accept).header("Accept-Encoding", encoding).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private long seed() {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("wire-" + suffix).email(suffix + "@wire.test").build()).getIdCompany();
+        List<UserRequestDto> users = new ArrayList<>();
+        for (int i = 0; i < 40; i++)
+            users.add(UserRequestDto.builder().name("user-" + i).email(i + "-" + suffix + "@wire.test")
+                    .password("secret").role(Role.HR).companyId(companyId).build());
+        userService.createUsers(users);
+        return companyId;
+    }
+}
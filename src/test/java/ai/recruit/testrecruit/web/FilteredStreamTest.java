@@ -0,0 +1,70 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streamed user lists apply the same filters as the JSON and paged variants, on both APIs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FilteredStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void ndjsonStreamsOnlyMatchingUsers() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = seed(suffix);
+        seed(UUID.randomUUID().toString());
+
+        for (String api : List.of("v1", "v2")) {
+            List<String> lines = stream("/api/" + api + "/users?companyId=" + companyId + "&role=CTO");
+            assertEquals(3, lines.size(), api);
+            assertTrue(lines.stream().allMatch(line -> line.contains(suffix) && line.contains("\"role\":\"CTO\"")), api);
+        }
+    }
+
+    private List<String> stream(String path) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/x-ndjson").build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response.body().lines().filter(line -> !line.isBlank()).toList();
+    }
+
+    private long seed(String suffix) {
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("filtered-" + suffix).email(suffix + "@filtered.test").build()).getIdCompany();
+        List<UserRequestDto> users = new ArrayList<>();
+        for (int i = 0; i < 6; i++)
+            users.add(UserRequestDto.builder().name("user-" + i).email(i + "-" + suffix + "@filtered.test")
+                    .password("secret").role(i % 2 == 0 ? Role.HR : Role.CTO).companyId(companyId).build());
+        userService.createUsers(users);
+        return companyId;
+    }
+}
@@ -0,0 +1,155 @@
+package ai.recruit.testrecruit.web;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop HTTP load at increasing concurrency, reporting p50/p99 and errors per level.
+ * The same heap is used for both runs:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=LoadHarnessBenchmarkTest
+ * mvn test -Pbenchmark,virtual-threads -Dtest=LoadHarnessBenchmarkTest
+ * </pre>
+ * {@code load.apis} runs each level against the MVC ({@code v1}) and Reactor ({@code v2})
+ * endpoints side by side, e.g. at connection counts beyond Tomcat's thread pool:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=LoadHarnessBenchmarkTest -Dload.apis=v1,v2 -Dload.levels=1000,5000,10000
+ * </pre>
+ * Every fourth request reads the full user list as NDJSON, which v1 writes from a
+ * {@code StreamingResponseBody} and v2 from a page-at-a-time {@code Flux}.
+ * The highest level whose p99 stays under {@code load.p99-budget} with no errors is
+ * reported as the max sustainable concurrency. Admission control is off so the harness
+ * measures the instance rather than its per-client limits.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.admission.enabled=false", "server.tomcat.max-connections=20000"})
+class LoadHarnessBenchmarkTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${load.levels:50,200,800}")
+    private int[] levels;
+
+    @Value("${load.apis:v1}")
+    private String[] apis;
+
+    @Value("${load.requests-per-level:4000}")
+    private int requestsPerLevel;
+
+    @Value("${load.p99-budget:1s}")
+    private Duration p99Budget;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+    @Test
+    void run() throws Exception {
+        long companyId = seed();
+        Map<String, Integer> sustained = new LinkedHashMap<>();
+        for (int level : levels) {
+            for (String api : apis) {
+                Result result = runLevel(api, level, companyId);
+                System.out.printf("mode=%s api=%s concurrency=%d p50=%dms p99=%dms errors=%d throughput=%.0f/s%n",
+                        virtualThreads ? "virtual" : "platform", api, level, result.p50Millis(), result.p99Millis(),
+                        result.errors(), result.throughput());
+                sustained.putIfAbsent(api, 0);
+                if (result.errors() == 0 && result.p99Millis() <= p99Budget.toMillis())
+                    sustained.put(api, level);
+            }
+        }
+        sustained.forEach((api, level) -> System.out.printf("mode=%s api=%s maxSustainedConcurrency=%d heap=%dMB%n",
+                virtualThreads ? "virtual" : "platform", api, level, Runtime.getRuntime().maxMemory() >> 20));
+    }
+
+    private Result runLevel(String api, int concurrency, long companyId) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLongArray latencies = new AtomicLongArray(requestsPerLevel);
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requestsPerLevel];
+        long start = System.nanoTime();
+        for (int i = 0; i < requestsPerLevel; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            futures[i] = client.sendAsync(request(api, i, companyId), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies.set(index, System.nanoTime() - sent);
+                        if (failure != null || response.statusCode() >= 400)
+                            errors.incrementAndGet();
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).exceptionally(failure -> null).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] sorted = new long[requestsPerLevel];
+        for (int i = 0; i < sorted.length; i++)
+            sorted[i] = latencies.get(i);
+        Arrays.sort(sorted);
+        return new Result(percentile(sorted, 0.50), percentile(sorted, 0.99), errors.get(), requestsPerLevel / seconds);
+    }
+
+    private HttpRequest request(String api, int i, long companyId) {
+        String path = "/api/" + api + switch (i % 4) {
+            case 0 -> "/users?limit=50";
+            case 1 -> "/companies/" + companyId;
+            case 2 -> "/companies?include=users&limit=20";
+            default -> "/users";
+        };
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", i % 4 == 3 ? "application/x-ndjson" : "application/json")
+                .GET().build();
+    }
+
+    private long seed() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        String company = client.send(post("/api/v1/companies",
+                        "{\"name\":\"load-" + suffix + "\",\"email\":\"" + suffix + "@load.test\"}"),
+                HttpResponse.BodyHandlers.ofString()).body();
+        long companyId = Long.parseLong(company.replaceAll(".*\"idCompany\":(\\d+).*", "$1"));
+        StringBuilder users = new StringBuilder("[");
+        for (int i = 0; i < 200; i++) {
+            String user = UUID.randomUUID().toString();
+            users.append(i == 0 ? "" : ",").append("{\"name\":\"user-").append(user).append("\",\"email\":\"")
+                    .append(user).append("@load.test\",\"password\":\"secret\",\"role\":\"HR\",\"companyId\":")
+                    .append(companyId).append('}');
+        }
+        client.send(post("/api/v1/users:batch", users.append(']').toString()), HttpResponse.BodyHandlers.discarding());
+        return companyId;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1_000_000;
+    }
+
+    private record Result(long p50Millis, long p99Millis, int errors, double throughput) {
+    }
+}
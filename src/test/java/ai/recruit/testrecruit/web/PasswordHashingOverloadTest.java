@@ -0,0 +1,94 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.security.PasswordHasher;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * With every hashing thread busy and the queue full, signups are shed with 503 and
+ * {@code Retry-After}, while requests that fail the cheap checks never wait for a slot.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.password-hashing.threads=1",
+        "app.password-hashing.queue-capacity=1",
+        "app.password-hashing.cost=14",
+        "app.password-hashing.retry-after=3s",
+        "app.admission.enabled=false"})
+class PasswordHashingOverloadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void saturatedPoolShedsSignupsButNotCheapFailures() throws Exception {
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("bcrypt-" + UUID.randomUUID()).email(UUID.randomUUID() + "@bcrypt.test").build()).getIdCompany();
+        String taken = UUID.randomUUID() + "@bcrypt.test";
+        userService.createUser(user(companyId, taken));
+
+        List<CompletableFuture<String>> busy = IntStream.range(0, 2)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> passwordHasher.hash("occupied")))
+                .toList();
+        while (gauge("password.hash.active") < 1 || gauge("password.hash.queue.depth") < 1)
+            Thread.sleep(5);
+
+        HttpResponse<String> shed = signup(user(companyId, UUID.randomUUID() + "@bcrypt.test"));
+        assertEquals(503, shed.statusCode());
+        assertEquals("3", shed.headers().firstValue("Retry-After").orElse(null));
+        assertEquals(404, signup(user(Long.MAX_VALUE, UUID.randomUUID() + "@bcrypt.test")).statusCode());
+        assertEquals(409, signup(user(companyId, taken)).statusCode());
+        assertTrue(meterRegistry.get("password.hash.rejected").counter().count() >= 1);
+
+        CompletableFuture.allOf(busy.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private HttpResponse<String> signup(UserRequestDto user) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(user)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static UserRequestDto user(long companyId, String email) {
+        return UserRequestDto.builder().name("signup").email(email)
+                .password("secret").role(Role.HR).companyId(companyId).build();
+    }
+}
@@ -0,0 +1,107 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.reactive.page-size=3")
+class ReactiveControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void streamsEveryPageAsNdjson() throws Exception {
+        long companyId = seed(10);
+
+        HttpResponse<String> response = get("/api/v2/users?companyId=" + companyId, "application/x-ndjson");
+
+        assertEquals(200, response.statusCode());
+        List<String> lines = response.body().lines().filter(line -> !line.isBlank()).toList();
+        assertEquals(10, lines.size());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{\"id\":") && line.contains("@reactive.test")));
+    }
+
+    @Test
+    void singleReadsKeepETagsAndErrorMapping() throws Exception {
+        long companyId = seed(1);
+
+        HttpResponse<String> company = get("/api/v2/companies/" + companyId, "application/json");
+        String eTag = company.headers().firstValue("ETag").orElseThrow();
+
+        assertEquals(200, company.statusCode());
+        assertEquals(304, ifNoneMatch("/api/v2/companies/" + companyId, eTag).statusCode());
+        assertEquals(304, ifNoneMatch("/api/v2/companies/" + companyId, "W/" + eTag).statusCode());
+        assertEquals(304, ifNoneMatch("/api/v2/companies/" + companyId, "\"other\", " + eTag).statusCode());
+        assertEquals(200, ifNoneMatch("/api/v2/companies/" + companyId, "\"other\"").statusCode());
+        assertEquals(404, get("/api/v2/users/0", "application/json").statusCode());
+    }
+
+    @Test
+    void batchesAndStatsMatchV1() throws Exception {
+        long companyId = seed(0);
+        String suffix = UUID.randomUUID().toString();
+        String batch = "[{\"name\":\"a\",\"email\":\"a-" + suffix + "@reactive.test\",\"password\":\"secret\","
+                + "\"role\":\"HR\",\"companyId\":" + companyId + "},"
+                + "{\"name\":\"b\",\"email\":\"b-" + suffix + "@reactive.test\",\"password\":\"secret\","
+                + "\"role\":\"HR\",\"companyId\":" + Long.MAX_VALUE + "}]";
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/v2/users:batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(batch)).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(207, response.statusCode());
+        assertTrue(response.body().contains("\"status\":201") && response.body().contains("\"status\":404"));
+        assertEquals(get("/api/v1/stats", "application/json").body(), get("/api/v2/stats", "application/json").body());
+    }
+
+    private HttpResponse<String> get(String path, String accept) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).header("Accept", accept).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> ifNoneMatch(String path, String eTag) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).header("If-None-Match", eTag).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private long seed(int users) {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("reactive-" + suffix).email(suffix + "@reactive.test").build()).getIdCompany();
+        List<UserRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < users; i++)
+            requests.add(UserRequestDto.builder().name("user-" + i).email(i + "-" + suffix + "@reactive.test")
+                    .password("secret").role(Role.HR).companyId(companyId).build());
+        userService.createUsers(requests);
+        return companyId;
+    }
+}
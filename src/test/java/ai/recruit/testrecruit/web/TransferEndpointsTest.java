@@ -0,0 +1,140 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.ImportProgressDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.dto.UserResponseDto;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.service.ICompanyService;
+import ai.recruit.testrecruit.service.IUserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.transfer.batch-size=2")
+class TransferEndpointsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void ndjsonExportImportsAsACopyWithPasswordsKept() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        long companyId = companyService.createCompany(CompanyRequestDto.builder()
+                .name("export-" + suffix).email(suffix + "@export.test").build()).getIdCompany();
+        List<UserRequestDto> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            users.add(UserRequestDto.builder().name("user-" + i).email(i + "-" + suffix + "@export.test")
+                    .password("secret").role(Role.HR).companyId(companyId).build());
+        userService.createUsers(users);
+
+        HttpResponse<String> export = client.send(HttpRequest.newBuilder(uri("/api/v1/export"))
+                .header("Accept", "application/x-ndjson").build(), HttpResponse.BodyHandlers.ofString());
+        StringBuilder copy = new StringBuilder();
+        for (String line : export.body().lines().toList()) {
+            ObjectNode record = (ObjectNode) objectMapper.readTree(line);
+            boolean ours = record.get("type").asText().equals("company")
+                    ? record.get("id").asLong() == companyId
+                    : record.path("companyId").asLong() == companyId;
+            if (!ours)
+                continue;
+            record.put("email", "copy-" + record.get("email").asText());
+            if (record.get("type").asText().equals("company"))
+                record.put("name", "copy-" + record.get("name").asText());
+            copy.append(record).append('\n');
+        }
+
+        List<ImportProgressDto> progress = importBody("application/x-ndjson", copy.toString());
+
+        ImportProgressDto done = progress.get(progress.size() - 1);
+        assertEquals(200, export.statusCode());
+        assertEquals(3, progress.size(), "two batches of two, then the summary");
+        assertTrue(done.isDone());
+        assertNull(done.getError());
+        assertEquals(1, done.getCompanies());
+        assertEquals(3, done.getUsers());
+        assertEquals(0, done.getRejected());
+        CompanyResponseDto imported = companyService.findAllCompanies().stream()
+                .filter(company -> company.getName().equals("copy-export-" + suffix)).findFirst().orElseThrow();
+        assertEquals(3, imported.getUsers().size());
+        UserResponseDto original = companyService.findCompanyById(companyId).getUsers().get(0);
+        assertTrue(imported.getUsers().stream().anyMatch(user -> user.getPassword().equals(original.getPassword())));
+    }
+
+    @Test
+    void csvImportRejectsBadRowsAndKeepsTheRest() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        String hash = "$2a$10$" + "a".repeat(53);
+        String csv = "type,id,companyId,name,email,password,role\n"
+                + "company,7,,csv-" + suffix + "," + suffix + "@csv.test,,\n"
+                + "user,1,7,kept,kept-" + suffix + "@csv.test," + hash + ",HR\n"
+                + "user,2,7,plain,plain-" + suffix + "@csv.test,secret,HR\n"
+                + "user,3,999,orphan,orphan-" + suffix + "@csv.test," + hash + ",HR\n";
+
+        ImportProgressDto done = last(importBody("text/csv", csv));
+
+        assertEquals(4, done.getRecords());
+        assertEquals(1, done.getCompanies());
+        assertEquals(1, done.getUsers());
+        assertEquals(2, done.getRejected());
+
+        HttpResponse<String> export = client.send(HttpRequest.newBuilder(uri("/api/v1/export"))
+                .header("Accept", "text/csv").build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(export.headers().firstValue("Content-Type").orElse("").startsWith("text/csv"));
+        assertTrue(export.body().startsWith("type,id,companyId,name,email"));
+        assertTrue(export.body().contains("kept-" + suffix + "@csv.test"));
+    }
+
+    @Test
+    void malformedRecordStopsTheImportWithAnError() throws Exception {
+        ImportProgressDto done = last(importBody("application/x-ndjson", "{\"type\":\"company\",\"id\":1,\"name\":\""
+                + UUID.randomUUID() + "\"}\n{not json\n"));
+
+        assertTrue(done.isDone());
+        assertTrue(done.getError().startsWith("Record 2"));
+    }
+
+    private List<ImportProgressDto> importBody(String contentType, String body) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/v1/import"))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        List<ImportProgressDto> progress = new ArrayList<>();
+        for (String line : response.body().lines().toList())
+            progress.add(objectMapper.readValue(line, ImportProgressDto.class));
+        return progress;
+    }
+
+    private static ImportProgressDto last(List<ImportProgressDto> progress) {
+        return progress.get(progress.size() - 1);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
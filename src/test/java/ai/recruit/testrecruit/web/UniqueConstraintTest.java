@@ -0,0 +1,113 @@
+package ai.recruit.testrecruit.web;
+
+import ai.recruit.testrecruit.dto.CompanyRequestDto;
+import ai.recruit.testrecruit.dto.CompanyResponseDto;
+import ai.recruit.testrecruit.dto.UserRequestDto;
+import ai.recruit.testrecruit.entities.Company;
+import ai.recruit.testrecruit.enums.Role;
+import ai.recruit.testrecruit.exception.GlobalExceptionHandler;
+import ai.recruit.testrecruit.service.ICompanyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Duplicate keys are only caught by the database's unique constraints; each must come back
+ * as 409 with its message, while other integrity failures are not conflicts.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UniqueConstraintTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ICompanyService companyService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void duplicateCompanyKeysOnCreateAreConflicts() throws Exception {
+        CompanyResponseDto existing = company();
+
+        assertResponse(409, "Name already exists", send("POST", "/companies",
+                CompanyRequestDto.builder().name(existing.getName()).email(UUID.randomUUID() + "@unique.test").build()));
+        assertResponse(409, "Mail already exists", send("POST", "/companies",
+                CompanyRequestDto.builder().name("unique-" + UUID.randomUUID()).email(existing.getEmail()).build()));
+    }
+
+    @Test
+    void duplicateCompanyKeysOnUpdateKeepTheirMessages() throws Exception {
+        CompanyResponseDto existing = company();
+        CompanyResponseDto renamed = company();
+        String path = "/companies/" + renamed.getIdCompany();
+
+        assertResponse(409, "Company name already exists", send("PUT", path,
+                CompanyRequestDto.builder().name(existing.getName()).email(renamed.getEmail()).build()));
+        assertResponse(409, "Company email already exists", send("PUT", path,
+                CompanyRequestDto.builder().name(renamed.getName()).email(existing.getEmail()).build()));
+    }
+
+    @Test
+    void duplicateUserEmailIsAConflict() throws Exception {
+        long companyId = company().getIdCompany();
+        UserRequestDto user = UserRequestDto.builder().name("unique").email(UUID.randomUUID() + "@unique.test")
+                .password("secret").role(Role.HR).companyId(companyId).build();
+
+        assertEquals(201, send("POST", "/users", user).statusCode());
+        assertResponse(409, "Email already exists", send("POST", "/users", user));
+    }
+
+    @Test
+    void otherIntegrityFailuresAreNotConflicts() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        DataIntegrityViolationException notNull =
+                new DataIntegrityViolationException("NULL not allowed for column \"VERSION\"");
+        DataIntegrityViolationException foreignKey = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Referential integrity constraint violation",
+                        new SQLException(), "FK_USERS_COMPANY"));
+        DataIntegrityViolationException unique = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation",
+                        new SQLException(), "PUBLIC." + Company.UK_NAME + "_INDEX_1"));
+
+        assertEquals(500, handler.handleDataIntegrityViolationException(notNull).getStatusCode().value());
+        assertEquals(500, handler.handleDataIntegrityViolationException(foreignKey).getStatusCode().value());
+        ResponseEntity<String> conflict = handler.handleDataIntegrityViolationException(unique);
+        assertEquals(409, conflict.getStatusCode().value());
+        assertEquals("Name already exists", conflict.getBody());
+    }
+
+    private static void assertResponse(int status, String body, HttpResponse<String> response) {
+        assertEquals(status, response.statusCode());
+        assertEquals(body, response.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompanyResponseDto company() {
+        String suffix = UUID.randomUUID().toString();
+        return companyService.createCompany(CompanyRequestDto.builder()
+                .name("unique-" + suffix).email(suffix + "@unique.test").build());
+    }
+}
@@ -0,0 +1,105 @@
+package ai.recruit.testrecruit.web;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives every endpoint family through Tomcat on virtual threads while JFR watches for
+ * {@code jdk.VirtualThreadPinned}; any carrier pinned longer than the threshold fails the
+ * test with the offending stack, which is usually a {@code synchronized} block in a driver
+ * or library.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "app.admission.enabled=false"})
+class VirtualThreadPinningTest {
+
+    private static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void requestPathsDoNotPinCarrierThreads() throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(PINNING_THRESHOLD).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+            recording.startAsync();
+
+            long companyId = createCompany();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 200; i++) {
+                    int request = i;
+                    clients.submit(() -> {
+                        switch (request % 4) {
+                            case 0 -> send(post("/api/v1/users", userJson(companyId)));
+                            case 1 -> send(get("/api/v1/users?limit=50"));
+                            case 2 -> send(get("/api/v1/companies?include=users"));
+                            default -> send(get("/api/v1/companies/" + companyId));
+                        }
+                        return null;
+                    });
+                }
+            }
+            recording.stop();
+        }
+        assertTrue(pinned.isEmpty(), "pinned carrier threads:\n" + String.join("\n\n", pinned));
+    }
+
+    private long createCompany() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        String body = send(post("/api/v1/companies",
+                "{\"name\":\"company-" + suffix + "\",\"email\":\"" + suffix + "@company.test\"}"));
+        return Long.parseLong(body.replaceAll(".*\"idCompany\":(\\d+).*", "$1"));
+    }
+
+    private static String userJson(long companyId) {
+        String suffix = UUID.randomUUID().toString();
+        return "{\"name\":\"user-" + suffix + "\",\"email\":\"" + suffix + "@user.test\",\"password\":\"secret\","
+                + "\"role\":\"HR\",\"companyId\":" + companyId + "}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static String describe(RecordedEvent event) {
+        String frames = event.getStackTrace() == null ? "(no stack)" : event.getStackTrace().getFrames().stream()
+                .limit(15)
+                .map(RecordedFrame::getMethod)
+                .map(method -> "  at " + method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+        return event.getDuration().toMillis() + " ms\n" + frames;
+    }
+}